@@ -0,0 +1,96 @@
+package pronze.hypixelify.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.screamingsandals.bedwars.api.RunningTeam;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Interface backed stand-ins for the Bukkit and BedWars objects the benchmarked code reads.
+ * Only the methods listed in the answers are implemented, anything else fails loudly so a
+ * benchmark never silently measures a default value.
+ */
+public final class Fakes {
+
+    private Fakes() {
+    }
+
+    public static World world(String name) {
+        final var uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return fake(World.class, Map.of(
+                "getName", name,
+                "getUID", uuid
+        ));
+    }
+
+    public static Player player(String name, World world, double x, double y, double z) {
+        return player(name, new Location(world, x, y, z));
+    }
+
+    /**
+     * @param location live position of the player, changes to it are seen by {@link Player#getLocation}
+     */
+    public static Player player(String name, Location location) {
+        final var uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        final var world = location.getWorld();
+        return (Player) Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getName":
+                            return name;
+                        case "getUniqueId":
+                            return uuid;
+                        case "getWorld":
+                            return world;
+                        case "isOnline":
+                            return true;
+                        case "getLocation":
+                            if (args == null) {
+                                return location.clone();
+                            }
+                            final var target = (Location) args[0];
+                            target.setWorld(world);
+                            target.setX(location.getX());
+                            target.setY(location.getY());
+                            target.setZ(location.getZ());
+                            return target;
+                        case "hashCode":
+                            return uuid.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "FakePlayer{" + name + "}";
+                        default:
+                            throw new UnsupportedOperationException("Player#" + method.getName());
+                    }
+                });
+    }
+
+    public static RunningTeam team(String name) {
+        return fake(RunningTeam.class, Map.of("getName", name));
+    }
+
+    private static <T> T fake(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    final var name = method.getName();
+                    if (answers.containsKey(name)) {
+                        return answers.get(name);
+                    }
+                    switch (name) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "Fake" + type.getSimpleName() + answers;
+                        default:
+                            throw new UnsupportedOperationException(type.getSimpleName() + "#" + name);
+                    }
+                }));
+    }
+}
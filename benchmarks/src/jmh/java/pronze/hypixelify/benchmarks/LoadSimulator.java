@@ -0,0 +1,101 @@
+package pronze.hypixelify.benchmarks;
+
+import pronze.hypixelify.profiler.TickHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Runs N simulated arenas on one thread, the way the server main thread would, and reports
+ * the tick time and allocation rate of the plugin components they drive. Nothing is sent to
+ * clients, so this compares changes to those components, it does not estimate server capacity.
+ * <p>
+ * ./gradlew :SBAHypixelify-Benchmarks:simulate -Psimulator.args="--arenas 12 --teams 4 --players 4"
+ */
+public class LoadSimulator {
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+
+    public static void main(String[] args) {
+        int arenas = 8, teams = 4, playersPerTeam = 4, ticks = 20 * 60 * 5, warmup = 20 * 60;
+        long seed = 42L;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            final var value = args[i + 1];
+            switch (args[i]) {
+                case "--arenas":
+                    arenas = Integer.parseInt(value);
+                    break;
+                case "--teams":
+                    teams = Integer.parseInt(value);
+                    break;
+                case "--players":
+                    playersPerTeam = Integer.parseInt(value);
+                    break;
+                case "--ticks":
+                    ticks = Integer.parseInt(value);
+                    break;
+                case "--warmup":
+                    warmup = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final var random = new Random(seed);
+        final var stats = new SimulatedArena.Stats();
+        final var simulated = new ArrayList<SimulatedArena>(arenas);
+        for (int i = 0; i < arenas; i++) {
+            simulated.add(new SimulatedArena(i, teams, playersPerTeam, random, stats));
+        }
+
+        for (int tick = 0; tick < warmup; tick++) {
+            simulated.forEach(SimulatedArena::tick);
+        }
+        stats.reset();
+
+        final var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+        final var histogram = new TickHistogram();
+        var overBudget = 0;
+
+        final var allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        final var startedAt = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            final var start = System.nanoTime();
+            simulated.forEach(SimulatedArena::tick);
+            final var elapsed = System.nanoTime() - start;
+            histogram.record(elapsed);
+            if (elapsed > TICK_BUDGET_NANOS) {
+                overBudget++;
+            }
+        }
+        final var totalNanos = System.nanoTime() - startedAt;
+        final var allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        final var gameSeconds = ticks / 20.0D;
+        final var meanTickNanos = (double) totalNanos / ticks;
+        final var perArenaNanos = meanTickNanos / arenas;
+
+        System.out.printf("Simulated %d arenas x %d teams x %d players for %d ticks (%.0f s of game time)%n",
+                arenas, teams, playersPerTeam, ticks, gameSeconds);
+        System.out.printf("Tick time    mean=%s p50=%s p99=%s max=%s over budget=%d%n",
+                micros(meanTickNanos), micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(99)), micros(histogram.getMax()), overBudget);
+        System.out.printf("Per arena    %s per tick%n", micros(perArenaNanos));
+        System.out.printf("Allocation   %.2f MB/s of game time, %.0f bytes per arena tick%n",
+                allocated / gameSeconds / (1024 * 1024), (double) allocated / ticks / arenas);
+        System.out.printf("Boards       %d changed, %d skipped as unchanged%n",
+                stats.boardsChanged, stats.boardsSkipped);
+        System.out.printf("Events       %d enemy base visits, %d pool heals, %d health changes%n",
+                stats.enemyBaseVisits, stats.poolHeals, stats.healthChanges);
+        System.out.printf("Games        %d finished%n", stats.gamesFinished);
+    }
+
+    private static String micros(double nanos) {
+        return String.format("%.1fus", nanos / 1_000.0D);
+    }
+}
@@ -0,0 +1,317 @@
+package pronze.hypixelify.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.screamingsandals.bedwars.api.RunningTeam;
+import pronze.hypixelify.game.BaseIndex;
+import pronze.hypixelify.game.HealthStore;
+import pronze.hypixelify.inventories.LoreTemplate;
+import pronze.hypixelify.scoreboard.LineTemplate;
+import pronze.hypixelify.scoreboard.SimulatedBoard;
+import pronze.hypixelify.utils.ScoreboardUtil;
+import pronze.hypixelify.utils.TimeFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One arena of the load simulator. Players walk around, take damage, die, shop and break
+ * beds at random, the plugin side of every event goes through the same components the
+ * real arena uses, on the cadences of the arena ticker defaults. A death after the bed of
+ * the team broke is a final kill, and once one team is left the arena starts a new game.
+ * <p>
+ * Not modelled: BedWars itself (spawners, the game timer, item pickups), purchases, the render
+ * of shop items beyond their lore, the scoreboard library and anything sent to the clients.
+ */
+class SimulatedArena {
+    private static final double POOL_RADIUS_SQUARED = 7 * 7;
+    private static final int GAME_TASK_CADENCE = 20;
+    private static final int HEALTH_CADENCE = 5;
+    private static final int SCOREBOARD_CADENCE = 20;
+    private static final int RESPAWN_SECONDS = 5;
+    private static final List<String> LINES = List.of(
+            "§7{date}", "", "{tier}", "", "{team_status}", "",
+            "§fKills: §a{kills}", "§fFinal Kills: §a{finalkills}", "§fBeds Broken: §a{beds}", "",
+            "§ewww.example.net"
+    );
+    private static final LoreTemplate LORE = LoreTemplate.compile(List.of(
+            "§7Price: §f%price% %resource%", "§7Amount: §f%amount%", "", "§eClick to purchase!"
+    ));
+    private static final int SHOP_PAGE_ITEMS = 21;
+
+    private final Random random;
+    private final Stats stats;
+    private final int teams;
+    private final BaseIndex baseIndex = new BaseIndex(POOL_RADIUS_SQUARED);
+    private final HealthStore healthStore;
+    private final RunningTeam[] baseTeams;
+    private final boolean[] bedAlive;
+    private final String[] teamStatus;
+    private final String[] teamStatusYou;
+
+    private final Player[] players;
+    private final Location[] locations;
+    private final int[] teamOf;
+    private final double[] health;
+    private final int[] kills;
+    private final int[] deaths;
+    /* the statistic of the player, kept across games */
+    private final int[] totalKills;
+    private final int[] beds;
+    private final int[] respawnLeft;
+    private final boolean[] eliminated;
+    private final int[] teamAlive;
+    private final int playersPerTeam;
+    private final List<LineTemplate> templates;
+    private final SimulatedBoard[] boards;
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private final String game;
+
+    private long revision;
+    private int ticks;
+    private String time;
+    private String tier;
+
+    SimulatedArena(int index, int teams, int playersPerTeam, Random random, Stats stats) {
+        this.random = random;
+        this.stats = stats;
+        this.teams = teams;
+        this.playersPerTeam = playersPerTeam;
+        final World world = Fakes.world("arena" + index);
+        final var playerCount = teams * playersPerTeam;
+        game = "arena" + index;
+        templates = SimulatedBoard.compile(LINES);
+
+        healthStore = new HealthStore(playerCount);
+        baseTeams = new RunningTeam[teams];
+        bedAlive = new boolean[teams];
+        teamStatus = new String[teams];
+        teamStatusYou = new String[teams];
+        players = new Player[playerCount];
+        locations = new Location[playerCount];
+        teamOf = new int[playerCount];
+        health = new double[playerCount];
+        kills = new int[playerCount];
+        deaths = new int[playerCount];
+        totalKills = new int[playerCount];
+        beds = new int[playerCount];
+        respawnLeft = new int[playerCount];
+        eliminated = new boolean[playerCount];
+        teamAlive = new int[teams];
+        boards = new SimulatedBoard[playerCount];
+
+        for (int t = 0; t < teams; t++) {
+            final var angle = 2 * Math.PI * t / teams;
+            baseTeams[t] = Fakes.team("team" + t);
+            baseIndex.add(baseTeams[t], new Location(world, Math.cos(angle) * 80, 64, Math.sin(angle) * 80));
+            for (int p = 0; p < playersPerTeam; p++) {
+                final var i = t * playersPerTeam + p;
+                locations[i] = new Location(world, Math.cos(angle) * 78, 64, Math.sin(angle) * 78);
+                players[i] = Fakes.player("arena" + index + "-player" + i, locations[i]);
+                teamOf[i] = t;
+            }
+        }
+        startGame();
+    }
+
+    /* a new game gets fresh boards and stats, like a new arena of the plugin */
+    private void startGame() {
+        ticks = 0;
+        updateClock();
+        revision++;
+        for (int t = 0; t < teams; t++) {
+            bedAlive[t] = true;
+            teamAlive[t] = playersPerTeam;
+            updateTeamStatus(t);
+        }
+        for (int i = 0; i < players.length; i++) {
+            health[i] = 20.0D;
+            kills[i] = deaths[i] = beds[i] = respawnLeft[i] = 0;
+            eliminated[i] = false;
+            boards[i] = new SimulatedBoard(templates, game, "10/17/26", "team" + teamOf[i]);
+        }
+    }
+
+    void tick() {
+        ticks++;
+        for (int i = 0; i < players.length; i++) {
+            if (eliminated[i] || respawnLeft[i] > 0) {
+                continue;
+            }
+            move(i);
+            if (random.nextInt(50) == 0 && damage(i)) {
+                /* the arena started a new game */
+                return;
+            }
+            if (random.nextInt(200) == 0) {
+                openShop();
+            }
+        }
+        if (random.nextInt(1200) == 0) {
+            breakBed();
+        }
+
+        if (ticks % GAME_TASK_CADENCE == 0) {
+            /* the clock ticks once a second, which alone changes every board */
+            updateClock();
+            revision++;
+            healPools();
+            respawnCountdowns();
+        }
+        if (ticks % HEALTH_CADENCE == 0) {
+            syncHealth();
+        }
+        if (ticks % SCOREBOARD_CADENCE == 0) {
+            updateBoards();
+        }
+    }
+
+    private void updateClock() {
+        time = TimeFormat.mmss(ticks / 20);
+        tier = "Diamond II in §a" + TimeFormat.mmss(Math.max(0, 360 - ticks / 20));
+    }
+
+    private void move(int i) {
+        final var location = locations[i];
+        final var blockX = location.getBlockX();
+        final var blockZ = location.getBlockZ();
+        location.add(random.nextGaussian() * 0.2, 0, random.nextGaussian() * 0.2);
+        if (location.getBlockX() == blockX && location.getBlockZ() == blockZ) {
+            return;
+        }
+        /* TrapListener only looks at moves between blocks */
+        for (var base : baseIndex.near(players[i].getLocation(scratch))) {
+            if (base.getTeam() != baseTeams[teamOf[i]] && baseIndex.isInRange(base, scratch)) {
+                stats.enemyBaseVisits++;
+            }
+        }
+    }
+
+    /**
+     * @return true if the death ended the game
+     */
+    private boolean damage(int i) {
+        health[i] -= 1 + random.nextInt(6);
+        if (health[i] > 0) {
+            return false;
+        }
+        deaths[i]++;
+        health[i] = 20.0D;
+        final var killer = random.nextInt(players.length);
+        final var killed = killer != i && !eliminated[killer] && respawnLeft[killer] == 0;
+        if (killed) {
+            kills[killer]++;
+            totalKills[killer]++;
+        }
+        if (bedAlive[teamOf[i]]) {
+            respawnLeft[i] = RESPAWN_SECONDS;
+            return false;
+        }
+        return eliminate(i);
+    }
+
+    private boolean eliminate(int i) {
+        eliminated[i] = true;
+        final var t = teamOf[i];
+        teamAlive[t]--;
+        updateTeamStatus(t);
+        revision++;
+
+        var teamsLeft = 0;
+        for (var alive : teamAlive) {
+            if (alive > 0) {
+                teamsLeft++;
+            }
+        }
+        if (teamsLeft > 1) {
+            return false;
+        }
+        stats.gamesFinished++;
+        startGame();
+        return true;
+    }
+
+    private void openShop() {
+        for (int item = 0; item < SHOP_PAGE_ITEMS; item++) {
+            LORE.appendTo(new ArrayList<>(4), String.valueOf(item % 8 + 1), "Iron", "16");
+        }
+    }
+
+    private void breakBed() {
+        final var t = random.nextInt(teams);
+        if (!bedAlive[t]) {
+            return;
+        }
+        bedAlive[t] = false;
+        updateTeamStatus(t);
+        beds[random.nextInt(players.length)]++;
+        revision++;
+    }
+
+    private void updateTeamStatus(int t) {
+        /* same shapes as ArenaRenderContext, the player count changes on every final kill */
+        teamStatus[t] = "§fTeam " + t + ": " + (bedAlive[t] ? "§a✓" : teamAlive[t] > 0 ? "§f" + teamAlive[t] : "§c✗");
+        teamStatusYou[t] = teamStatus[t] + " §7YOU";
+    }
+
+    private void healPools() {
+        for (int i = 0; i < players.length; i++) {
+            if (eliminated[i]) {
+                continue;
+            }
+            final var location = players[i].getLocation(scratch);
+            for (var base : baseIndex.near(location)) {
+                if (base.getTeam() == baseTeams[teamOf[i]] && baseIndex.isInRange(base, location)) {
+                    stats.poolHeals++;
+                }
+            }
+        }
+    }
+
+    private void respawnCountdowns() {
+        for (int i = 0; i < players.length; i++) {
+            if (respawnLeft[i] > 0) {
+                respawnLeft[i]--;
+            }
+        }
+    }
+
+    private void syncHealth() {
+        for (int i = 0; i < players.length; i++) {
+            if (eliminated[i]) {
+                continue;
+            }
+            final var slot = healthStore.slotOf(players[i]);
+            if (healthStore.update(slot, ScoreboardUtil.toHealthScore(health[i]))) {
+                stats.healthChanges++;
+            }
+        }
+    }
+
+    private void updateBoards() {
+        for (int i = 0; i < players.length; i++) {
+            if (boards[i].update(revision, teamOf[i], kills[i], deaths[i], beds[i], totalKills[i],
+                    time, tier, teamStatus, teamStatusYou)) {
+                stats.boardsChanged++;
+            } else {
+                stats.boardsSkipped++;
+            }
+        }
+    }
+
+    static class Stats {
+        long enemyBaseVisits;
+        long poolHeals;
+        long healthChanges;
+        long boardsChanged;
+        long boardsSkipped;
+        long gamesFinished;
+
+        void reset() {
+            enemyBaseVisits = poolHeals = healthChanges = 0;
+            boardsChanged = boardsSkipped = gamesFinished = 0;
+        }
+    }
+}
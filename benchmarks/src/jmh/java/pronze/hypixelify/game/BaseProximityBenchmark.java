@@ -0,0 +1,90 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+import org.screamingsandals.bedwars.api.RunningTeam;
+import pronze.hypixelify.benchmarks.Fakes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The heal pool check of {@link GameTask}: every player against the bases around it, once
+ * through the {@link BaseIndex} and once as the plain scan over every base it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BaseProximityBenchmark {
+    private static final double RADIUS_SQUARED = 7 * 7;
+
+    @Param({"4", "8"})
+    public int teams;
+
+    @Param({"2", "4"})
+    public int playersPerTeam;
+
+    private Player[] players;
+    private RunningTeam[] playerTeams;
+    private RunningTeam[] baseTeams;
+    private Location[] baseLocations;
+    private BaseIndex index;
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    @Setup
+    public void setup() {
+        final var world = Fakes.world("arena");
+        index = new BaseIndex(RADIUS_SQUARED);
+        baseTeams = new RunningTeam[teams];
+        baseLocations = new Location[teams];
+        players = new Player[teams * playersPerTeam];
+        playerTeams = new RunningTeam[players.length];
+
+        for (int t = 0; t < teams; t++) {
+            /* bases on a circle of 80 blocks around the middle, like a regular map */
+            final var angle = 2 * Math.PI * t / teams;
+            final var base = new Location(world, Math.cos(angle) * 80, 64, Math.sin(angle) * 80);
+            baseTeams[t] = Fakes.team("team" + t);
+            baseLocations[t] = base;
+            index.add(baseTeams[t], base);
+
+            for (int p = 0; p < playersPerTeam; p++) {
+                final var i = t * playersPerTeam + p;
+                /* half of the players at home, the others on their way to the middle */
+                final var distance = p % 2 == 0 ? 3 : 40;
+                players[i] = Fakes.player("player" + i, world,
+                        base.getX() - Math.cos(angle) * distance, 64, base.getZ() - Math.sin(angle) * distance);
+                playerTeams[i] = baseTeams[t];
+            }
+        }
+    }
+
+    @Benchmark
+    public int indexed() {
+        int healed = 0;
+        for (int i = 0; i < players.length; i++) {
+            final var location = players[i].getLocation(scratch);
+            for (var base : index.near(location)) {
+                if (base.getTeam() == playerTeams[i] && index.isInRange(base, location)) {
+                    healed++;
+                }
+            }
+        }
+        return healed;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int healed = 0;
+        for (int i = 0; i < players.length; i++) {
+            final var location = players[i].getLocation();
+            for (int t = 0; t < baseTeams.length; t++) {
+                if (baseTeams[t] == playerTeams[i]
+                        && baseLocations[t].distanceSquared(location) <= RADIUS_SQUARED) {
+                    healed++;
+                }
+            }
+        }
+        return healed;
+    }
+}
@@ -0,0 +1,61 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+import pronze.hypixelify.benchmarks.Fakes;
+import pronze.hypixelify.utils.ScoreboardUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per tick health diff of a full arena: map every player to its slot and compare the
+ * current health against the last sent value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HealthStoreBenchmark {
+
+    @Param({"8", "16", "32"})
+    public int players;
+
+    private Player[] fakes;
+    private double[] health;
+    private HealthStore store;
+
+    @Setup
+    public void setup() {
+        final var world = Fakes.world("arena");
+        fakes = new Player[players];
+        health = new double[players];
+        store = new HealthStore(players);
+        for (int i = 0; i < players; i++) {
+            fakes[i] = Fakes.player("player" + i, world, i, 64, i);
+            health[i] = 20.0D;
+            store.update(store.slotOf(fakes[i]), ScoreboardUtil.toHealthScore(health[i]));
+        }
+    }
+
+    @Benchmark
+    public int diffUnchanged() {
+        int changed = 0;
+        for (int i = 0; i < fakes.length; i++) {
+            if (store.update(store.slotOf(fakes[i]), ScoreboardUtil.toHealthScore(health[i]))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public int diffAllChanged() {
+        int changed = 0;
+        for (int i = 0; i < fakes.length; i++) {
+            health[i] = health[i] <= 1.0D ? 20.0D : health[i] - 1.0D;
+            if (store.update(store.slotOf(fakes[i]), ScoreboardUtil.toHealthScore(health[i]))) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,51 @@
+package pronze.hypixelify.inventories;
+
+import org.openjdk.jmh.annotations.*;
+import org.screamingsandals.bedwars.lib.ext.kyori.adventure.text.Component;
+import org.screamingsandals.bedwars.lib.utils.AdventureHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated shop lore of one item, through the compiled {@link LoreTemplate} and through the
+ * replaceAll chain {@link CustomShop#setLore} used before.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoreTemplateBenchmark {
+    private static final List<String> LORE = List.of(
+            "§7Price: §f%price% %resource%",
+            "§7Amount: §f%amount%",
+            "",
+            "§eClick to purchase!"
+    );
+
+    private LoreTemplate template;
+
+    @Setup
+    public void setup() {
+        template = LoreTemplate.compile(LORE);
+    }
+
+    @Benchmark
+    public List<Component> compiled() {
+        final var lore = new ArrayList<Component>(LORE.size());
+        template.appendTo(lore, "4", "Iron", "16");
+        return lore;
+    }
+
+    @Benchmark
+    public List<Component> replaceAll() {
+        final var lore = new ArrayList<Component>(LORE.size());
+        for (var line : LORE) {
+            lore.add(AdventureHelper.toComponent(line
+                    .replaceAll("%price%", "4")
+                    .replaceAll("%resource%", "Iron")
+                    .replaceAll("%amount%", "16")));
+        }
+        return lore;
+    }
+}
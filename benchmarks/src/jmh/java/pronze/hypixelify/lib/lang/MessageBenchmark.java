@@ -0,0 +1,63 @@
+package pronze.hypixelify.lib.lang;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placeholder substitution of {@link Message#get(MessageReceiver)} against an in memory
+ * translation container.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageBenchmark {
+    private static final Map<String, String> TRANSLATIONS = Map.of(
+            "player_killed", "§c%victim% §7was killed by §a%killer%§7.",
+            "upgrade_purchased", "§a%player% §7has purchased §6%upgrade% §7for §b%price% %resource%§7!"
+    );
+
+    private final ITranslateContainer container = new ITranslateContainer() {
+        @Override
+        public String getLocaleCode() {
+            return "en";
+        }
+
+        @Override
+        public String translate(String key, String def) {
+            return TRANSLATIONS.getOrDefault(key, def);
+        }
+
+        @Override
+        public ITranslateContainer getFallbackContainer() {
+            return null;
+        }
+    };
+    private final MessageReceiver receiver = new MessageReceiver(null, "Steve");
+
+    private Message twoPlaceholders;
+    private Message fourPlaceholders;
+
+    @Setup
+    public void setup() {
+        twoPlaceholders = new Message("player_killed", container)
+                .replace("%victim%", "Alex")
+                .replace("%killer%", receiver -> receiver.getName());
+        fourPlaceholders = new Message("upgrade_purchased", container)
+                .replace("%player%", "Steve")
+                .replace("%upgrade%", "Sharpened Swords")
+                .replace("%price%", 8)
+                .replace("%resource%", "Diamond");
+    }
+
+    @Benchmark
+    public String twoPlaceholders() {
+        return twoPlaceholders.get(receiver);
+    }
+
+    @Benchmark
+    public String fourPlaceholders() {
+        return fourPlaceholders.get(receiver);
+    }
+}
@@ -0,0 +1,112 @@
+package pronze.hypixelify.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import pronze.hypixelify.scoreboard.ScoreBoard.Placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders the default in game board the way {@link ScoreBoard#process} does and diffs the
+ * result against the previously sent lines, next to the string replace chain it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScoreboardRenderBenchmark {
+    private static final int TEAM_STATUS_SLOT = Placeholder.TEAM_STATUS.ordinal();
+    private static final int DATE = Placeholder.DATE.ordinal();
+    private static final int TIER = Placeholder.TIER.ordinal();
+    private static final int KILLS = Placeholder.KILLS.ordinal();
+    private static final int FINAL_KILLS = Placeholder.FINAL_KILLS.ordinal();
+    private static final int BEDS = Placeholder.BEDS.ordinal();
+    private static final List<String> LINES = List.of(
+            "§7{date}",
+            "",
+            "{tier}",
+            "",
+            "{team_status}",
+            "",
+            "§fKills: §a{kills}",
+            "§fFinal Kills: §a{finalkills}",
+            "§fBeds Broken: §a{beds}",
+            "",
+            "§ewww.example.net"
+    );
+    private static final String[] TEAM_STATUS = {
+            "§cR §fRed: §a✓", "§9B §fBlue: §a✓ §7YOU", "§aG §fGreen: §c✘", "§eY §fYellow: §a3",
+            "§bA §fAqua: §a✓", "§fW §fWhite: §a✓", "§dP §fPink: §a2", "§8S §fGray: §c✘"
+    };
+
+    private List<LineTemplate> templates;
+    private final String[] values = new String[Placeholder.TOKENS.length];
+    private final StringBuilder builder = new StringBuilder();
+    private BoardState state;
+    private int kills;
+
+    @Setup
+    public void setup() {
+        templates = LineTemplate.compileAll(LINES, Placeholder.TOKENS);
+        values[DATE] = "10/17/26";
+        values[TIER] = "Diamond II in §a04:12";
+        values[KILLS] = "0";
+        values[FINAL_KILLS] = "0";
+        values[BEDS] = "0";
+        state = new BoardState();
+        state.updateLines(renderTemplates());
+    }
+
+    @Benchmark
+    public List<String> renderTemplates() {
+        final var lines = new ArrayList<String>(templates.size() + TEAM_STATUS.length);
+        for (var template : templates) {
+            if (!template.hasSlot(TEAM_STATUS_SLOT)) {
+                lines.add(template.render(builder, values));
+                continue;
+            }
+            for (var status : TEAM_STATUS) {
+                values[TEAM_STATUS_SLOT] = status;
+                lines.add(template.render(builder, values));
+            }
+        }
+        return lines;
+    }
+
+    @Benchmark
+    public List<String> renderReplaceChain() {
+        final var lines = new ArrayList<String>(LINES.size() + TEAM_STATUS.length);
+        for (var line : LINES) {
+            if (line.contains("{team_status}")) {
+                for (var status : TEAM_STATUS) {
+                    lines.add(line.replace("{team_status}", status));
+                }
+                continue;
+            }
+            lines.add(line
+                    .replace("{date}", values[DATE])
+                    .replace("{tier}", values[TIER])
+                    .replace("{kills}", values[KILLS])
+                    .replace("{finalkills}", values[FINAL_KILLS])
+                    .replace("{beds}", values[BEDS]));
+        }
+        return lines;
+    }
+
+    @Benchmark
+    public int diffUnchanged() {
+        return state.updateLines(renderTemplates());
+    }
+
+    @Benchmark
+    public int diffOneLineChanged() {
+        values[KILLS] = String.valueOf(++kills);
+        return state.updateLines(renderTemplates());
+    }
+
+    @Benchmark
+    public void skipOnUnchangedInputs(Blackhole blackhole) {
+        blackhole.consume(state.updateInputs(1L, 1, kills, 0, 0, kills));
+    }
+}
@@ -0,0 +1,65 @@
+package pronze.hypixelify.scoreboard;
+
+import pronze.hypixelify.scoreboard.ScoreBoard.Placeholder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A board of one simulated player: fills the placeholders and renders the templates the way
+ * {@link ScoreBoard#process} does, and keeps a {@link BoardState} to skip unchanged boards.
+ */
+public class SimulatedBoard {
+    private final List<LineTemplate> templates;
+    private final BoardState state = new BoardState();
+    private final StringBuilder builder = new StringBuilder();
+    private final String[] values = new String[Placeholder.TOKENS.length];
+
+    public SimulatedBoard(List<LineTemplate> templates, String game, String date, String team) {
+        this.templates = templates;
+        Arrays.fill(values, "");
+        values[Placeholder.GAME.ordinal()] = game;
+        values[Placeholder.DATE.ordinal()] = date;
+        values[Placeholder.TEAM.ordinal()] = team;
+    }
+
+    /**
+     * Compiles board lines against the placeholders of {@link ScoreBoard}.
+     */
+    public static List<LineTemplate> compile(List<String> lines) {
+        return LineTemplate.compileAll(lines, Placeholder.TOKENS);
+    }
+
+    /**
+     * @return true if the board changed and its lines would have been handed to the board
+     */
+    public boolean update(long revision, int teamIndex, int kills, int deaths, int beds, int totalKills,
+                          String time, String tier, String[] teamStatus, String[] teamStatusYou) {
+        if (!state.updateInputs(revision, teamIndex, kills, deaths, beds, totalKills)) {
+            return false;
+        }
+        values[Placeholder.BEDS.ordinal()] = String.valueOf(beds);
+        values[Placeholder.DIES.ordinal()] = String.valueOf(deaths);
+        values[Placeholder.TOTAL_KILLS.ordinal()] = String.valueOf(totalKills);
+        values[Placeholder.FINAL_KILLS.ordinal()] = String.valueOf(totalKills);
+        values[Placeholder.KILLS.ordinal()] = String.valueOf(kills);
+        values[Placeholder.TIME.ordinal()] = time;
+        values[Placeholder.FORMAT_TIME.ordinal()] = time;
+        values[Placeholder.TIER.ordinal()] = tier;
+
+        final var teamStatusSlot = Placeholder.TEAM_STATUS.ordinal();
+        final var lines = new ArrayList<String>(templates.size() + teamStatus.length);
+        for (var template : templates) {
+            if (!template.hasSlot(teamStatusSlot)) {
+                lines.add(template.render(builder, values));
+                continue;
+            }
+            for (int i = 0; i < teamStatus.length; i++) {
+                values[teamStatusSlot] = i == teamIndex ? teamStatusYou[i] : teamStatus[i];
+                lines.add(template.render(builder, values));
+            }
+        }
+        return state.updateLines(lines) != 0;
+    }
+}
@@ -35,6 +35,8 @@ public class Configurator {
             shopFolder,
             gamesInventoryFolder;
     public FileConfiguration config;
+    /* swapped as a whole, readers never see a half built snapshot */
+    private volatile Settings settings;
 
     public Configurator(SBAHypixelify main) {
         this.dataFolder = main.getDataFolder();
@@ -115,12 +117,24 @@ public class Configurator {
         checkOrSetConfig(modify, "floating-generator.enabled", true);
         checkOrSetConfig(modify, "floating-generator.holo-height", 2.0);
         checkOrSetConfig(modify, "floating-generator.item-height", 0.25);
+        checkOrSetConfig(modify, "floating-generator.packet-entities", false);
         checkOrSetConfig(modify, "floating-generator.holo-text", Arrays.asList(
                 "§eTier §c{tier}",
                 "{material}",
                 "§eSpawns in §c{seconds} §eseconds"
         ));
 
+        checkOrSetConfig(modify, "profiler.enabled", true);
+        checkOrSetConfig(modify, "match-history.enabled", true);
+        checkOrSetConfig(modify, "match-history.file", "match-history.bin");
+        checkOrSetConfig(modify, "hot-reload.enabled", true);
+        checkOrSetConfig(modify, "arena-tick.health.cadence", 5);
+        checkOrSetConfig(modify, "arena-tick.scoreboard.cadence", 20);
+        checkOrSetConfig(modify, "arena-tick.game-task.budget-micros", 2000);
+        checkOrSetConfig(modify, "arena-tick.health.budget-micros", 1000);
+        checkOrSetConfig(modify, "arena-tick.scoreboard.budget-micros", 2000);
+        checkOrSetConfig(modify, "arena-tick.respawn.budget-micros", 500);
+
         checkOrSetConfig(modify, "upgrades.timer-upgrades-enabled", true);
         checkOrSetConfig(modify, "upgrades.show-upgrade-message", true);
         checkOrSetConfig(modify, "upgrades.trap-detection-range", 7);
@@ -150,6 +164,7 @@ public class Configurator {
         checkOrSetConfig(modify, "message.maximum-enchant-lore", Arrays.asList("Maximum Enchant", "Your team already has maximum Enchant."));
         checkOrSetConfig(modify, "disable-sword-armor-damage", true);
         checkOrSetConfig(modify, "shop-name", "[SBAHypixelify] shop");
+        checkOrSetConfig(modify, "shop-render-cache", true);
 
         checkOrSetConfig(modify, "game.tab-health", true);
         checkOrSetConfig(modify, "game.tag-health", true);
@@ -184,6 +199,8 @@ public class Configurator {
                 , ""
                 , "&a\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac\u25ac"
         ));
+        checkOrSetConfig(modify, "overstats.top-killers.size", 3);
+        checkOrSetConfig(modify, "overstats.top-killers.tie-breaker", "FIRST_TO_REACH");
         checkOrSetConfig(modify, "scoreboard.you", "&7YOU");
         checkOrSetConfig(modify, "scoreboard.lines.default", Arrays.asList(
                 "&7{date}"
@@ -307,6 +324,7 @@ public class Configurator {
         gamestart_message = SBAUtil.translateColors(getStringList("game-start.message"));
 
         ShopUtil.initKeys();
+        reloadSettings();
         if (config.getBoolean("first_start")) {
             Bukkit.getLogger().info( "§aDetected first start");
             upgradeCustomFiles();
@@ -361,6 +379,17 @@ public class Configurator {
         SBAUtil.reloadPlugin(Main.getInstance());
     }
 
+    public Settings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Builds a new settings snapshot from the loaded configs and publishes it.
+     */
+    public void reloadSettings() {
+        settings = Settings.load(this);
+    }
+
     public void saveConfig() {
         try {
             config.save(configFile);
@@ -16,55 +16,84 @@ import pronze.hypixelify.api.game.GameStorage;
 import pronze.hypixelify.api.wrapper.PlayerWrapper;
 import pronze.hypixelify.commands.CommandManager;
 import pronze.hypixelify.game.Arena;
+import pronze.hypixelify.game.ArenaRegistry;
+import pronze.hypixelify.game.GeneratorAnimator;
 import pronze.hypixelify.game.RotatingGenerators;
+import pronze.hypixelify.game.VirtualArmorStand;
 import pronze.hypixelify.inventories.CustomShop;
 import pronze.hypixelify.inventories.GamesInventory;
 import pronze.hypixelify.lib.lang.I18n;
 import pronze.hypixelify.listener.*;
 import pronze.hypixelify.placeholderapi.SBAExpansion;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.service.GameClockService;
+import pronze.hypixelify.service.InventoryWatchService;
+import pronze.hypixelify.service.MatchHistoryService;
 import pronze.hypixelify.service.PlayerWrapperService;
 import pronze.hypixelify.utils.Logger;
+import pronze.hypixelify.utils.BedWarsInternals;
 import pronze.hypixelify.utils.SBAUtil;
 import pronze.lib.core.Core;
 import pronze.lib.scoreboards.ScoreboardManager;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 
 public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
     private static SBAHypixelify plugin;
-    private final Map<String, Arena> arenas = new HashMap<>();
+    private final ArenaRegistry arenas = new ArenaRegistry();
     private final List<Listener> registeredListeners = new ArrayList<>();
     private String version;
     private PlayerWrapperService playerWrapperService;
+    private GameClockService clockService;
+    private MatchHistoryService matchHistory;
+    private InventoryWatchService inventoryWatcher;
     private Configurator configurator;
     private GamesInventory gamesInventory;
+    private CustomShop shop;
+    private GeneratorAnimator generatorAnimator;
     private boolean debug = false;
     private boolean protocolLib;
     private boolean isSnapshot;
 
     public static Optional<GameStorage> getStorage(Game game) {
-        if (plugin.arenas.containsKey(game.getName()))
-            return Optional.ofNullable(plugin.arenas.get(game.getName()).getStorage());
-
-        return Optional.empty();
+        final var arena = plugin.arenas.get(game.getName());
+        return arena == null ? Optional.empty() : Optional.ofNullable(arena.getStorage());
     }
 
     public static Arena getArena(String arenaName) {
         return plugin.arenas.get(arenaName);
     }
 
+    /**
+     * @return the running arena the player is part of, null if there is none
+     */
+    public static Arena getArena(Player player) {
+        return plugin.arenas.get(player);
+    }
+
+    public static ArenaRegistry getArenaRegistry() {
+        return plugin.arenas;
+    }
+
     public static void addArena(Arena arena) {
-        plugin.arenas.put(arena.getGame().getName(), arena);
+        plugin.arenas.register(arena);
     }
 
     public static void removeArena(String arenaName) {
-        plugin.arenas.remove(arenaName);
+        plugin.arenas.unregister(arenaName);
     }
 
     public static Configurator getConfigurator() {
         return plugin.configurator;
     }
 
+    public static Settings getSettings() {
+        return plugin.configurator.getSettings();
+    }
+
     public static boolean isProtocolLib() {
         return plugin.protocolLib;
     }
@@ -77,10 +106,26 @@ public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
         return plugin.gamesInventory;
     }
 
+    public static CustomShop getShop() {
+        return plugin.shop;
+    }
+
+    public static GeneratorAnimator getGeneratorAnimator() {
+        return plugin.generatorAnimator;
+    }
+
     public static PlayerWrapperService getWrapperService() {
         return plugin.playerWrapperService;
     }
 
+    public static GameClockService getClockService() {
+        return plugin.clockService;
+    }
+
+    public static MatchHistoryService getMatchHistory() {
+        return plugin.matchHistory;
+    }
+
     public static boolean isUpgraded() {
         return !Objects.requireNonNull(getConfigurator()
                 .config.getString("version")).contains(SBAHypixelify.getInstance().getVersion());
@@ -140,16 +185,30 @@ public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
         I18n.load(this, configurator.config.getString("locale"));
 
         playerWrapperService = new PlayerWrapperService();
+        clockService = new GameClockService();
+        clockService.start(this);
+        Profiler.setEnabled(configurator.config.getBoolean("profiler.enabled", true));
+        if (configurator.config.getBoolean("match-history.enabled", true)) {
+            matchHistory = new MatchHistoryService(new File(getDataFolder(),
+                    configurator.config.getString("match-history.file", "match-history.bin")));
+        }
         debug = configurator.config.getBoolean("debug.enabled", false);
 
-        CustomShop shop = new CustomShop();
+        shop = new CustomShop();
 
         gamesInventory = new GamesInventory();
-        gamesInventory.loadInventory();
+        /* wait a tick so the games of BedWars and their stores are loaded */
+        Bukkit.getScheduler().runTask(this, () -> {
+            preloadInventories(shop);
+            if (configurator.config.getBoolean("hot-reload.enabled", true)) {
+                watchInventories(shop);
+            }
+        });
 
         registerListener(new BedWarsListener());
         registerListener(new PlayerListener());
         registerListener(new TeamUpgradeListener());
+        registerListener(new TrapListener());
 
         if (configurator.config.getBoolean("main-lobby.enabled", false))
             registerListener(new MainLobbyBoard());
@@ -168,7 +227,10 @@ public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
             t.printStackTrace();
         }
 
+        BedWarsInternals.init();
         preliminaryRotatingGeneratorChecks();
+        generatorAnimator = new GeneratorAnimator();
+        generatorAnimator.runTaskTimer(this, 0L, GeneratorAnimator.PERIOD);
         new Metrics(this, 79505);
         Logger.trace("Registering API service provider");
 
@@ -181,10 +243,44 @@ public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
         getLogger().info("Plugin has loaded!");
     }
 
+    private void preloadInventories(CustomShop shop) {
+        final var threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        final var executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "SBAHypixelify-Preload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var start = System.currentTimeMillis();
+        CompletableFuture.allOf(shop.preload(executor), gamesInventory.loadInventory(executor))
+                .whenComplete((ignored, throwable) -> {
+                    executor.shutdown();
+                    if (throwable != null) {
+                        throwable.printStackTrace();
+                    }
+                    Logger.trace("Preloaded shops and games inventories in {}ms", System.currentTimeMillis() - start);
+                });
+    }
+
+    private void watchInventories(CustomShop shop) {
+        inventoryWatcher = new InventoryWatchService()
+                .watch(getDataFolder().toPath().resolve("shops"), shop::reloadShopFile)
+                .watch(getDataFolder().toPath().resolve("games-inventory"), gamesInventory::reloadInventory);
+        try {
+            inventoryWatcher.start();
+        } catch (Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
     private void preliminaryRotatingGeneratorChecks() {
         if (configurator.config.getBoolean("floating-generator.enabled", false)) {
             SBAUtil.destroySpawnerArmorStandEntities();
         }
+        if (configurator.config.getBoolean("floating-generator.packet-entities", false)
+                && !(isProtocolLib() && VirtualArmorStand.isSupported())) {
+            getLogger().warning("floating-generator.packet-entities needs ProtocolLib on 1.16 or newer, "
+                    + "real armor stands are spawned instead");
+        }
     }
 
     private boolean passedVersionChecks() {
@@ -218,6 +314,12 @@ public class SBAHypixelify extends JavaPlugin implements SBAHypixelifyAPI {
         RotatingGenerators.destroy(RotatingGenerators.cache);
         Logger.trace("Cancelling tasks...");
         this.getServer().getScheduler().cancelTasks(plugin);
+        if (matchHistory != null) {
+            matchHistory.shutdown();
+        }
+        if (inventoryWatcher != null) {
+            inventoryWatcher.stop();
+        }
         this.getServer().getServicesManager().unregisterAll(plugin);
         arenas.clear();
         Logger.trace("Successfully shutdown SBAHypixelify instance");
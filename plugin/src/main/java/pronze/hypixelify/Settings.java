@@ -0,0 +1,76 @@
+package pronze.hypixelify;
+
+import org.screamingsandals.bedwars.Main;
+
+/**
+ * Immutable snapshot of the settings read on hot paths, so event handlers read fields instead of
+ * walking the yaml tree. Built by {@link Configurator} whenever bwaconfig.yml or the BedWars
+ * config is loaded, never modify it, build a new one.
+ */
+public final class Settings {
+    /* bwaconfig.yml */
+    public final int shoutTimeOut;
+    public final boolean respawnCooldown;
+    public final int respawnCooldownTime;
+    public final boolean blockItemDrops;
+    public final boolean giveKillerResources;
+    public final boolean disableArmorInventoryMovement;
+    public final boolean disableSwordArmorDamage;
+    public final boolean permanentItems;
+    public final boolean blockItemsOnChest;
+    public final boolean removeSwordOnUpgrade;
+    public final boolean tagHealth;
+    public final boolean tabHealth;
+    public final boolean mainLobby;
+    public final boolean mainLobbyCustomChat;
+    /* color translated, null if not set */
+    public final String mainLobbyChatFormat;
+    /* color translated */
+    public final String lobbySoloPrefix;
+    public final String lobbyDoublesPrefix;
+    public final String lobbyTriplesPrefix;
+    public final String lobbySquadsPrefix;
+
+    /* config.yml of BedWars */
+    public final boolean automaticShopColoring;
+    public final boolean sellMax64PerClick;
+    public final boolean removePurchaseMessages;
+    public final String itemBuySound;
+    public final String upgradeBuySound;
+    public final String trapTriggeredSound;
+
+    private Settings(Configurator configurator) {
+        final var config = configurator.config;
+        shoutTimeOut = config.getInt("shout.time-out", 60);
+        respawnCooldown = config.getBoolean("respawn-cooldown.enabled", true);
+        respawnCooldownTime = config.getInt("respawn-cooldown.time", 5);
+        blockItemDrops = config.getBoolean("block-item-drops", true);
+        giveKillerResources = config.getBoolean("give-killer-resources", true);
+        disableArmorInventoryMovement = config.getBoolean("disable-armor-inventory-movement", true);
+        disableSwordArmorDamage = config.getBoolean("disable-sword-armor-damage", true);
+        permanentItems = config.getBoolean("permanent-items", true);
+        blockItemsOnChest = config.getBoolean("block-players-putting-certain-items-onto-chest", true);
+        removeSwordOnUpgrade = config.getBoolean("remove-sword-on-upgrade", true);
+        tagHealth = config.getBoolean("game.tag-health", true);
+        tabHealth = config.getBoolean("game.tab-health", true);
+        mainLobby = config.getBoolean("main-lobby.enabled", false);
+        mainLobbyCustomChat = config.getBoolean("main-lobby.custom-chat", true);
+        mainLobbyChatFormat = configurator.getString("main-lobby.chat-format");
+        lobbySoloPrefix = configurator.getString("lobby-scoreboard.solo-prefix", "Solo");
+        lobbyDoublesPrefix = configurator.getString("lobby-scoreboard.doubles-prefix", "Doubles");
+        lobbyTriplesPrefix = configurator.getString("lobby-scoreboard.triples-prefix", "Triples");
+        lobbySquadsPrefix = configurator.getString("lobby-scoreboard.squads-prefix", "Squads");
+
+        final var bedwars = Main.getConfigurator();
+        automaticShopColoring = bedwars.node("automatic-coloring-in-shop").getBoolean();
+        sellMax64PerClick = bedwars.node("sell-max-64-per-click-in-shop").getBoolean();
+        removePurchaseMessages = bedwars.node("removePurchaseMessages").getBoolean(false);
+        itemBuySound = bedwars.node("sounds", "on_item_buy").getString();
+        upgradeBuySound = bedwars.node("sounds", "on_upgrade_buy").getString();
+        trapTriggeredSound = bedwars.node("sounds", "on_trap_triggered").getString();
+    }
+
+    static Settings load(Configurator configurator) {
+        return new Settings(configurator);
+    }
+}
@@ -6,6 +6,8 @@ import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.scoreboard.BoardUpdateStats;
 import pronze.hypixelify.utils.SBAUtil;
 import pronze.hypixelify.utils.ShopUtil;
 
@@ -100,6 +102,23 @@ public class BWACommand {
                             SBAHypixelify.getConfigurator().upgradeCustomFiles();
                         }).execute(() -> context.getSender().sendMessage(i18n("command_upgraded", true)))));
 
+        manager.command(builder.literal("profile")
+                .permission("misat11.bw.admin")
+                .handler(context -> manager.taskRecipe()
+                        .begin(context)
+                        .synchronous(c -> sendProfile(c.getSender())).execute()));
+
+        manager.command(builder.literal("profile")
+                .literal("reset")
+                .permission("misat11.bw.admin")
+                .handler(context -> manager.taskRecipe()
+                        .begin(context)
+                        .synchronous(c -> {
+                            Profiler.reset();
+                            BoardUpdateStats.reset();
+                        })
+                        .execute(() -> context.getSender().sendMessage(i18n("profile_reset")))));
+
         manager.command(builder.literal("cancel")
                 .permission("misat11.bw.admin")
                 .handler(context -> manager.taskRecipe()
@@ -114,5 +133,41 @@ public class BWACommand {
                         }).execute(() -> context.getSender().sendMessage(i18n("command_cancel_upgrade", true)))));
 
     }
+
+    private void sendProfile(CommandSender sender) {
+        sendSubsystemProfile(sender);
+        sender.sendMessage(i18n("profile_board_lines")
+                .replace("{sent}", String.valueOf(BoardUpdateStats.getLinesSent()))
+                .replace("{skipped}", String.valueOf(BoardUpdateStats.getLinesSkipped()))
+                .replace("{updates_skipped}", String.valueOf(BoardUpdateStats.getUpdatesSkipped())));
+    }
+
+    private void sendSubsystemProfile(CommandSender sender) {
+        if (!Profiler.isEnabled()) {
+            sender.sendMessage(i18n("profile_disabled"));
+            return;
+        }
+        final var histograms = Profiler.getHistograms();
+        if (histograms.isEmpty()) {
+            sender.sendMessage(i18n("profile_no_samples"));
+            return;
+        }
+        histograms.forEach((arena, subsystems) -> {
+            sender.sendMessage(i18n("profile_arena").replace("{arena}", arena));
+            subsystems.forEach((subsystem, histogram) -> sender.sendMessage(i18n("profile_subsystem")
+                    .replace("{subsystem}", subsystem.getDisplayName())
+                    .replace("{calls}", String.format("%.1f", histogram.getCallsPerSecond()))
+                    .replace("{p50}", formatNanos(histogram.getValueAtPercentile(50)))
+                    .replace("{p99}", formatNanos(histogram.getValueAtPercentile(99)))
+                    .replace("{max}", formatNanos(histogram.getMax()))));
+        });
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+        return String.format("%.1fus", nanos / 1_000.0);
+    }
 }
 
@@ -53,8 +53,7 @@ public class ShoutCommand {
                             }
 
                             final var playerWrapper = SBAHypixelify.getWrapperService().getWrapper(player);
-                            final var cancelShout = SBAHypixelify.getConfigurator()
-                                    .config.getInt("shout.time-out", 60) == 0;
+                            final var cancelShout = SBAHypixelify.getSettings().shoutTimeOut == 0;
 
                             if(!cancelShout && !canByPass(player)) {
                                 if (!playerWrapper.canShout()) {
@@ -2,19 +2,26 @@ package pronze.hypixelify.game;
 
 import pronze.hypixelify.Configurator;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.api.events.TeamTrapTriggeredEvent;
 import pronze.hypixelify.scoreboard.ScoreBoard;
+import pronze.hypixelify.service.MatchRecord;
+import pronze.hypixelify.utils.Logger;
 import pronze.hypixelify.utils.SBAUtil;
 import lombok.Getter;
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
 import org.screamingsandals.bedwars.Main;
+import org.screamingsandals.bedwars.api.RunningTeam;
 import org.screamingsandals.bedwars.api.events.BedwarsGameEndingEvent;
 import org.screamingsandals.bedwars.api.events.BedwarsGameStartedEvent;
 import org.screamingsandals.bedwars.api.events.BedwarsPlayerKilledEvent;
 import org.screamingsandals.bedwars.api.events.BedwarsTargetBlockDestroyedEvent;
 import org.screamingsandals.bedwars.api.game.Game;
+import org.screamingsandals.bedwars.utils.Sounds;
 
 import java.util.*;
 
@@ -30,6 +37,11 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
     private final List<RotatingGenerators> rotatingGenerators = new ArrayList<>();
     private final Map<UUID, PlayerData> playerDataMap = new HashMap<>();
     private final GameTask gameTask;
+    private final HealthStore healthStore;
+    private final BaseIndex baseIndex;
+    private final RespawnCountdowns respawnCountdowns = new RespawnCountdowns();
+    private final ArenaTicker ticker;
+    private final KillLeaderboard killLeaderboard;
 
     public Arena(Game game) {
         radius = Math.pow(
@@ -38,12 +50,19 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
                         7), 2
         );
         this.game = game;
+        game.getConnectedPlayers().forEach(player -> {
+            playerDataMap.put(player.getUniqueId(), new PlayerData());
+            capturePlayer(player);
+        });
         storage = new GameStorage(game);
+        baseIndex = new BaseIndex(radius);
+        game.getRunningTeams().forEach(team -> baseIndex.add(team, storage.getTargetBlockLocation(team)));
+        healthStore = new HealthStore(game.getMaxPlayers());
+        killLeaderboard = createKillLeaderboard();
         gameTask = new GameTask(this);
         scoreboard = new ScoreBoard(this);
-
-        game.getConnectedPlayers()
-                .forEach(player -> playerDataMap.put(player.getUniqueId(), new PlayerData()));
+        ticker = new ArenaTicker(this);
+        ticker.start();
     }
 
     @Override
@@ -85,11 +104,56 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
                                 rotationStack,
                                 Main.getGame(game.getName())
                         ).spawn(game.getConnectedPlayers());
-                        if (generator != null) rotatingGenerators.add(generator);
+                        if (generator != null) {
+                            rotatingGenerators.add(generator);
+                            gameTask.getTimeline().addGenerator(generator);
+                        }
                     });
         }
     }
 
+    /**
+     * Triggers the armed traps of the bases the player has just walked into.
+     */
+    public void onPlayerMove(Player player, Location to) {
+        if (!storage.areTrapsEnabled()) return;
+
+        final var bases = baseIndex.near(to);
+        if (bases.isEmpty()) return;
+
+        final var gamePlayer = Main.getPlayerGameProfile(player);
+        if (gamePlayer == null || gamePlayer.isSpectator) return;
+
+        final var playerTeam = game.getTeamOfPlayer(player);
+        for (var base : bases) {
+            final var team = base.getTeam();
+            if (team == playerTeam || !storage.isTrapEnabled(team)) continue;
+            if (team.getConnectedPlayers().isEmpty() || !baseIndex.isInRange(base, to)) continue;
+            triggerTrap(player, team);
+        }
+    }
+
+    public void triggerTrap(Player player, RunningTeam team) {
+        final var triggeredEvent = new TeamTrapTriggeredEvent(player, team, this);
+        SBAHypixelify.getInstance().getServer().getPluginManager().callEvent(triggeredEvent);
+
+        if (!triggeredEvent.isCancelled()) {
+            storage.setTrap(team, false);
+            player.addPotionEffect(new PotionEffect
+                    (PotionEffectType.BLINDNESS, 20 * 3, 2));
+
+            player.sendMessage(i18n("trap-triggered.message")
+                    .replace("%team%", team.getName()));
+
+            team.getConnectedPlayers().forEach(pl -> {
+                Sounds.playSound(pl, pl.getLocation(), SBAHypixelify.getSettings().trapTriggeredSound,
+                        Sounds.ENTITY_ENDERMAN_TELEPORT, 1, 1);
+                sendTitle(pl, i18n("trap-triggered.title"),
+                        i18n("trap-triggered.sub-title"), 20, 60, 0);
+            });
+        }
+    }
+
     public void onTargetBlockDestroyed(BedwarsTargetBlockDestroyedEvent e) {
         final var team = e.getTeam();
         team.getConnectedPlayers().forEach(player -> sendTitle(
@@ -110,63 +174,26 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
     }
 
     public void onPreRebuildingEvent() {
-        if (gameTask != null) gameTask.cancel();
+        stopTicking();
         RotatingGenerators.destroy(rotatingGenerators);
         rotatingGenerators.clear();
+        if (gameTask != null) gameTask.getTimeline().clearGenerators();
     }
 
     public void onOver(BedwarsGameEndingEvent e) {
+        stopTicking();
         if (scoreboard != null) {
             scoreboard.destroy();
-            scoreboard.cancelTask();
-        }
-        if (gameTask != null) {
-            gameTask.cancel();
         }
+        healthStore.clear();
 
         final var winner = e.getWinningTeam();
+        final var matchHistory = SBAHypixelify.getMatchHistory();
+        if (matchHistory != null) {
+            matchHistory.submit(createMatchRecord(winner));
+        }
 
         if (winner != null) {
-            final var dataKills = new HashMap<String, Integer>();
-            playerDataMap
-                    .keySet()
-                    .stream()
-                    .map(Bukkit::getPlayer)
-                    .filter(Objects::nonNull)
-                    .forEach((player) -> dataKills.put(player.getDisplayName(),
-                            playerDataMap.get(player.getUniqueId()).getKills()));
-
-            int kills_1 = 0;
-            int kills_2 = 0;
-            int kills_3 = 0;
-            String kills_1_player = "none";
-            String kills_2_player = "none";
-            String kills_3_player = "none";
-
-            for (String player : dataKills.keySet()) {
-                int k = dataKills.get(player);
-                if (k > 0 && k > kills_1) {
-                    kills_1_player = player;
-                    kills_1 = k;
-                }
-            }
-            for (String player : dataKills.keySet()) {
-                int k = dataKills.get(player);
-                if (k > kills_2 && k <= kills_1 && !player.equals(kills_1_player)) {
-                    kills_2_player = player;
-                    kills_2 = k;
-                }
-            }
-
-            for (String player : dataKills.keySet()) {
-                int k = dataKills.get(player);
-                if (k > kills_3 && k <= kills_2 && !player.equals(kills_1_player) &&
-                        !player.equals(kills_2_player)) {
-                    kills_3_player = player;
-                    kills_3 = k;
-                }
-            }
-
             final var WinTeamPlayers = new ArrayList<String>();
 
             winner.getConnectedPlayers().forEach(player -> WinTeamPlayers.add(player.getDisplayName()));
@@ -174,28 +201,76 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
                     sendTitle(pl, i18n("victory-title"),
                             "", 0, 90, 0));
 
-            for (Player player : game.getConnectedPlayers()) {
-                for (String message : Configurator.overstats_message) {
-                    if (message == null) {
-                        return;
-                    }
-
-                    player.sendMessage(message.replace("{color}",
-                            org.screamingsandals.bedwars.game.TeamColor.valueOf(winner.getColor().name()).chatColor.toString())
-                            .replace("{win_team}", winner.getName())
-                            .replace("{win_team_players}", WinTeamPlayers.toString())
-                            .replace("{first_1_kills_player}", kills_1_player)
-                            .replace("{first_2_kills_player}", kills_2_player)
-                            .replace("{first_3_kills_player}", kills_3_player)
-                            .replace("{first_1_kills}", String.valueOf(kills_1))
-                            .replace("{first_2_kills}", String.valueOf(kills_2))
-                            .replace("{first_3_kills}", String.valueOf(kills_3)));
+            final var lines = new ArrayList<String>();
+            for (String message : Configurator.overstats_message) {
+                if (message == null) {
+                    break;
                 }
+
+                var line = message.replace("{color}",
+                        org.screamingsandals.bedwars.game.TeamColor.valueOf(winner.getColor().name()).chatColor.toString())
+                        .replace("{win_team}", winner.getName())
+                        .replace("{win_team_players}", WinTeamPlayers.toString());
+                /* the default message always has the first three places, fill them even on a smaller board */
+                for (int rank = 0; rank < Math.max(killLeaderboard.getSize(), 3); rank++) {
+                    final var name = killLeaderboard.getName(rank);
+                    line = line.replace("{first_" + (rank + 1) + "_kills_player}", name == null ? "none" : name)
+                            .replace("{first_" + (rank + 1) + "_kills}", String.valueOf(killLeaderboard.getKills(rank)));
+                }
+                lines.add(line);
             }
+            game.getConnectedPlayers().forEach(player -> lines.forEach(player::sendMessage));
         }
 
     }
 
+    /**
+     * Cancels every periodic task of the arena.
+     */
+    public void stopTicking() {
+        if (!ticker.isCancelled()) {
+            ticker.cancel();
+        }
+        respawnCountdowns.clear();
+    }
+
+    private MatchRecord createMatchRecord(RunningTeam winner) {
+        final var participants = new ArrayList<MatchRecord.Participant>(playerDataMap.size());
+        playerDataMap.forEach((uuid, data) -> participants.add(new MatchRecord.Participant(uuid,
+                data.getName(), data.getTeam(),
+                data.getKills(), data.getFinalKills(), data.getDeaths(), data.getBedDestroys())));
+        return new MatchRecord(System.currentTimeMillis(), game.getName(),
+                winner == null ? null : winner.getName(), gameTask.getTime(), participants);
+    }
+
+    private static KillLeaderboard createKillLeaderboard() {
+        final var config = SBAHypixelify.getConfigurator().config;
+        var tieBreaker = KillLeaderboard.TieBreaker.FIRST_TO_REACH;
+        try {
+            tieBreaker = KillLeaderboard.TieBreaker.valueOf(config
+                    .getString("overstats.top-killers.tie-breaker", "FIRST_TO_REACH").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            Logger.trace("Unknown top killers tie breaker, using FIRST_TO_REACH");
+        }
+        return new KillLeaderboard(config.getInt("overstats.top-killers.size", 3), tieBreaker);
+    }
+
+    /**
+     * Remembers the name and team of a participant, called whenever the player is assigned a team.
+     * The last team is kept after the player was eliminated or left.
+     */
+    public void capturePlayer(Player player) {
+        final var data = playerDataMap.get(player.getUniqueId());
+        if (data == null) {
+            return;
+        }
+        data.setName(player.getName());
+        final var team = game.getTeamOfPlayer(player);
+        if (team != null) {
+            data.setTeam(team.getName());
+        }
+    }
+
     public void putPlayerData(UUID uuid, PlayerData data) {
         playerDataMap.put(uuid, data);
     }
@@ -222,6 +297,7 @@ public class Arena implements pronze.hypixelify.api.game.Arena {
 
         final var killerData = playerDataMap.get(killer.getUniqueId());
         killerData.setKills(killerData.getKills() + 1);
+        killLeaderboard.update(killer.getUniqueId(), killer.getDisplayName(), killerData.getKills());
 
         if (!team.isBed) killerData.setFinalKills(killerData.getFinalKills() + 1);
     }
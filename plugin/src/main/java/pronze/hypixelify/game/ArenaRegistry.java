@@ -0,0 +1,78 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running arenas indexed by game name, player and world. Writes happen on the main thread
+ * from the BedWars events, lookups are safe from any thread.
+ */
+public class ArenaRegistry {
+    private final Map<String, Arena> byGame = new ConcurrentHashMap<>();
+    private final Map<UUID, Arena> byPlayer = new ConcurrentHashMap<>();
+    /* BedWars allows several arenas in one world */
+    private final Map<UUID, Set<Arena>> byWorld = new ConcurrentHashMap<>();
+
+    public void register(Arena arena) {
+        final var game = arena.getGame();
+        byGame.put(game.getName(), arena);
+        byWorld.computeIfAbsent(game.getGameWorld().getUID(), uid -> ConcurrentHashMap.newKeySet()).add(arena);
+        game.getConnectedPlayers().forEach(player -> byPlayer.put(player.getUniqueId(), arena));
+    }
+
+    public void unregister(String gameName) {
+        final var arena = byGame.remove(gameName);
+        if (arena == null) {
+            return;
+        }
+        byPlayer.values().removeIf(value -> value == arena);
+        byWorld.computeIfPresent(arena.getGame().getGameWorld().getUID(), (uid, arenas) -> {
+            arenas.remove(arena);
+            return arenas.isEmpty() ? null : arenas;
+        });
+    }
+
+    public void addPlayer(Player player, Arena arena) {
+        byPlayer.put(player.getUniqueId(), arena);
+    }
+
+    /**
+     * Drops the player from the arena, nothing happens if it has moved on to another arena already.
+     */
+    public void removePlayer(Player player, Arena arena) {
+        byPlayer.remove(player.getUniqueId(), arena);
+    }
+
+    public Arena get(String gameName) {
+        return byGame.get(gameName);
+    }
+
+    public Arena get(Player player) {
+        return byPlayer.get(player.getUniqueId());
+    }
+
+    /**
+     * @return the running arenas in the world, empty if there are none
+     */
+    public Collection<Arena> get(World world) {
+        final var arenas = byWorld.get(world.getUID());
+        return arenas == null ? Collections.emptySet() : Collections.unmodifiableSet(arenas);
+    }
+
+    public Collection<Arena> getArenas() {
+        return Collections.unmodifiableCollection(byGame.values());
+    }
+
+    public void clear() {
+        byGame.clear();
+        byPlayer.clear();
+        byWorld.clear();
+    }
+}
@@ -0,0 +1,130 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.scheduler.BukkitRunnable;
+import org.screamingsandals.bedwars.api.game.GameStatus;
+import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
+import pronze.hypixelify.utils.Logger;
+
+/**
+ * Single task driving every periodic subsystem of an arena. Phases run in the order
+ * they are declared, each one every {@code arena-tick.<phase>.cadence} ticks, and the time
+ * they take is measured against {@code arena-tick.<phase>.budget-micros}.
+ */
+public class ArenaTicker extends BukkitRunnable {
+
+    public enum Phase {
+        /* GameTask counts seconds, its cadence is not configurable */
+        GAME_TASK("game-task", 20, 2000, false, Subsystem.GAME_TASK),
+        HEALTH("health", 5, 1000, true, Subsystem.HEALTH_OBJECTIVE),
+        SCOREBOARD("scoreboard", 20, 2000, true, Subsystem.SCOREBOARD_RENDER),
+        /* every countdown keeps its own second relative to the death */
+        RESPAWN("respawn", 1, 500, false, Subsystem.RESPAWN);
+
+        private final String key;
+        private final int defaultCadence;
+        private final int defaultBudgetMicros;
+        private final boolean configurableCadence;
+        private final Subsystem subsystem;
+
+        Phase(String key, int defaultCadence, int defaultBudgetMicros, boolean configurableCadence, Subsystem subsystem) {
+            this.key = key;
+            this.defaultCadence = defaultCadence;
+            this.defaultBudgetMicros = defaultBudgetMicros;
+            this.configurableCadence = configurableCadence;
+            this.subsystem = subsystem;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Arena arena;
+    private final int[] cadence = new int[PHASES.length];
+    private final long[] budgetNanos = new long[PHASES.length];
+    private final long[] lastNanos = new long[PHASES.length];
+    private final long[] overBudget = new long[PHASES.length];
+    /* scoreboard pass that ran out of budget and continues on the next tick */
+    private boolean scoreboardPending;
+    private long tick;
+
+    public ArenaTicker(Arena arena) {
+        this.arena = arena;
+        final var config = SBAHypixelify.getConfigurator().config;
+        for (var phase : PHASES) {
+            final var path = "arena-tick." + phase.key;
+            cadence[phase.ordinal()] = phase.configurableCadence ?
+                    Math.max(1, config.getInt(path + ".cadence", phase.defaultCadence)) :
+                    phase.defaultCadence;
+            budgetNanos[phase.ordinal()] = config.getLong(path + ".budget-micros", phase.defaultBudgetMicros) * 1000L;
+        }
+    }
+
+    public void start() {
+        runTaskTimer(SBAHypixelify.getInstance(), 0L, 1L);
+    }
+
+    @Override
+    public void run() {
+        if (arena.getGame().getStatus() != GameStatus.RUNNING) {
+            cancel();
+            return;
+        }
+
+        for (var phase : PHASES) {
+            final var index = phase.ordinal();
+            final var due = tick % cadence[index] == 0;
+            if (!due && !(phase == Phase.SCOREBOARD && scoreboardPending)) {
+                continue;
+            }
+
+            final var start = System.nanoTime();
+            runPhase(phase, start + budgetNanos[index]);
+            final var elapsed = System.nanoTime() - start;
+
+            lastNanos[index] = elapsed;
+            Profiler.recordNanos(arena.getGame().getName(), phase.subsystem, elapsed);
+            if (elapsed > budgetNanos[index]) {
+                overBudget[index]++;
+                Logger.trace("Arena {} phase {} took {}us", arena.getGame().getName(), phase.key, elapsed / 1000);
+            }
+        }
+        tick++;
+    }
+
+    private void runPhase(Phase phase, long deadlineNanos) {
+        switch (phase) {
+            case GAME_TASK:
+                arena.getGameTask().run();
+                break;
+            case HEALTH:
+                arena.getScoreboard().updateCustomObj();
+                break;
+            case SCOREBOARD:
+                scoreboardPending = !arena.getScoreboard().updateBoards(deadlineNanos);
+                break;
+            case RESPAWN:
+                arena.getRespawnCountdowns().tick();
+                break;
+        }
+    }
+
+    public long getLastNanos(Phase phase) {
+        return lastNanos[phase.ordinal()];
+    }
+
+    /**
+     * @return how many runs of the phase went over its budget
+     */
+    public long getOverBudgetCount(Phase phase) {
+        return overBudget[phase.ordinal()];
+    }
+
+    public int getCadence(Phase phase) {
+        return cadence[phase.ordinal()];
+    }
+}
@@ -0,0 +1,91 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.screamingsandals.bedwars.api.RunningTeam;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid of 16x16x16 chunk sections pointing at the team bases whose detection range
+ * overlaps the section, so a proximity check only has to look at the bases of the
+ * section the player is standing in.
+ */
+public class BaseIndex {
+    private final Map<Long, List<Base>> sections = new HashMap<>();
+    private final double radiusSquared;
+    private World world;
+
+    public BaseIndex(double radiusSquared) {
+        this.radiusSquared = radiusSquared;
+    }
+
+    public void add(RunningTeam team, Location target) {
+        if (target == null || target.getWorld() == null) {
+            return;
+        }
+        world = target.getWorld();
+        final var base = new Base(team, target.getX(), target.getY(), target.getZ());
+        final var radius = Math.sqrt(radiusSquared);
+
+        final int minX = section(base.x - radius), maxX = section(base.x + radius);
+        final int minY = section(base.y - radius), maxY = section(base.y + radius);
+        final int minZ = section(base.z - radius), maxZ = section(base.z + radius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    sections.computeIfAbsent(key(x, y, z), k -> new ArrayList<>()).add(base);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param location position of the player, only read
+     * @return the bases whose detection range might contain the location, check with {@link #isInRange}
+     */
+    public List<Base> near(Location location) {
+        if (location.getWorld() != world) {
+            return Collections.emptyList();
+        }
+        final var bases = sections.get(key(section(location.getX()), section(location.getY()), section(location.getZ())));
+        return bases == null ? Collections.emptyList() : bases;
+    }
+
+    public boolean isInRange(Base base, Location location) {
+        final var dx = base.x - location.getX();
+        final var dy = base.y - location.getY();
+        final var dz = base.z - location.getZ();
+        return dx * dx + dy * dy + dz * dz <= radiusSquared;
+    }
+
+    private static int section(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFF) << 42) | ((long) (z & 0x3FFFFF) << 20) | (y & 0xFFFFF);
+    }
+
+    public static class Base {
+        private final RunningTeam team;
+        private final double x;
+        private final double y;
+        private final double z;
+
+        private Base(RunningTeam team, double x, double y, double z) {
+            this.team = team;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        public RunningTeam getTeam() {
+            return team;
+        }
+    }
+}
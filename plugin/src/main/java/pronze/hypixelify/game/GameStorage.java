@@ -6,10 +6,14 @@ import org.screamingsandals.bedwars.api.game.Game;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 public class GameStorage implements pronze.hypixelify.api.game.GameStorage {
 
     private final Map<String, TeamData> teamDataMap = new HashMap<>();
+    private int armedTraps;
+    /* bumped whenever an upgrade level changes, lets rendered shop items notice */
+    private int upgradeVersion;
 
     public GameStorage(Game game) {
         game.getRunningTeams().forEach(team -> teamDataMap.put(team.getName(),
@@ -39,10 +43,21 @@ public class GameStorage implements pronze.hypixelify.api.game.GameStorage {
 
     public Integer getEfficiency(String team) { return teamDataMap.get(team).getEfficiency(); }
 
-    public void setEfficiency(RunningTeam rt, Integer level) {teamDataMap.get(rt.getName()).setEfficiency(level);}
+    public void setEfficiency(RunningTeam rt, Integer level) {
+        final var data = teamDataMap.get(rt.getName());
+        if (!Objects.equals(data.getEfficiency(), level)) upgradeVersion++;
+        data.setEfficiency(level);
+    }
+
+    public int getUpgradeVersion() {
+        return upgradeVersion;
+    }
 
     public void setTrap(RunningTeam rt, boolean b) {
         final var data = teamDataMap.get(rt.getName());
+        if (data.isPurchasedTrap() != b) {
+            armedTraps += b ? 1 : -1;
+        }
         data.setPurchasedTrap(b);
     }
 
@@ -58,11 +73,13 @@ public class GameStorage implements pronze.hypixelify.api.game.GameStorage {
 
     public void setSharpness(String teamName, Integer level) {
         final var data = teamDataMap.get(teamName);
+        if (!Objects.equals(data.getSharpness(), level)) upgradeVersion++;
         data.setSharpness(level);
     }
 
     public void setProtection(String teamName, Integer level) {
         final var data = teamDataMap.get(teamName);
+        if (!Objects.equals(data.getProtection(), level)) upgradeVersion++;
         data.setProtection(level);
     }
 
@@ -83,13 +100,7 @@ public class GameStorage implements pronze.hypixelify.api.game.GameStorage {
     }
 
     public boolean areTrapsEnabled() {
-        for (TeamData data : teamDataMap.values()) {
-            if (data == null) continue;
-            if (data.isPurchasedTrap()) {
-                return true;
-            }
-        }
-        return false;
+        return armedTraps > 0;
     }
 
     public boolean arePoolEnabled() {
@@ -0,0 +1,59 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitRunnable;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
+
+/**
+ * Drives the rotation of every rotating generator in {@link RotatingGenerators#cache}
+ * from a single task, instead of one task per generator.
+ */
+public class GeneratorAnimator extends BukkitRunnable {
+    public static final long PERIOD = 2L;
+
+    private final double viewDistanceSquared;
+    private long lastRunNanos;
+    private long totalNanos;
+    private long runs;
+    private int lastAnimated;
+
+    public GeneratorAnimator() {
+        final var viewDistance = Bukkit.getViewDistance() * 16.0;
+        viewDistanceSquared = viewDistance * viewDistance;
+    }
+
+    @Override
+    public void run() {
+        final var start = System.nanoTime();
+        var animated = 0;
+        for (var generator : RotatingGenerators.cache) {
+            if (generator != null && generator.rotate(viewDistanceSquared)) {
+                animated++;
+            }
+        }
+        lastAnimated = animated;
+        lastRunNanos = System.nanoTime() - start;
+        totalNanos += lastRunNanos;
+        Profiler.recordNanos(Profiler.GLOBAL, Subsystem.GENERATOR_ROTATION, lastRunNanos);
+        runs++;
+    }
+
+    /**
+     * @return time spent in the last pass over all generators, in nanoseconds
+     */
+    public long getLastRunNanos() {
+        return lastRunNanos;
+    }
+
+    public long getAverageRunNanos() {
+        return runs == 0 ? 0 : totalNanos / runs;
+    }
+
+    /**
+     * @return amount of armor stands actually moved in the last pass
+     */
+    public int getLastAnimated() {
+        return lastAnimated;
+    }
+}
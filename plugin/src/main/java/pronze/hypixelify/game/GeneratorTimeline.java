@@ -0,0 +1,88 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.Material;
+import org.screamingsandals.bedwars.api.game.Game;
+import org.screamingsandals.bedwars.api.game.ItemSpawner;
+import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.utils.SBAUtil;
+
+import java.util.*;
+
+import static pronze.hypixelify.lib.lang.I.i18n;
+
+/**
+ * Generator tier schedule of an arena compiled at game start. Tier {@code i} upgrades the
+ * generators of {@link #getResource(int)} when the game time reaches {@link #getFireTime(int)},
+ * the last tier marks the end of the game and has no resource.
+ */
+public class GeneratorTimeline {
+    private final int[] fireTimes;
+    private final String[] tierNames;
+    private final Material[] resources;
+    private final Map<Material, List<ItemSpawner>> spawners = new EnumMap<>(Material.class);
+    private final Map<Material, List<RotatingGenerators>> generators = new EnumMap<>(Material.class);
+
+    public GeneratorTimeline(Game game) {
+        final var config = SBAHypixelify.getConfigurator().config;
+        fireTimes = new int[9];
+        tierNames = new String[9];
+        resources = new Material[9];
+
+        byte inc = 1;
+        for (int i = 0; i < 8; i++) {
+            final var romanNumeral = SBAUtil.romanNumerals.get(inc);
+            final var emerald = i % 2 != 0;
+
+            tierNames[i] = (emerald ? i18n("emerald") : i18n("diamond")) + "-" + romanNumeral;
+            resources[i] = emerald ? Material.EMERALD : Material.DIAMOND;
+            fireTimes[i] = config.getInt("upgrades.time." + (emerald ? "Emerald" : "Diamond") + "-" + romanNumeral);
+
+            if (emerald) inc += 1;
+        }
+        tierNames[8] = i18n("game-end");
+        fireTimes[8] = game.getGameTime();
+
+        game.getItemSpawners().forEach(spawner -> {
+            final var material = spawner.getItemSpawnerType().getMaterial();
+            if (material == Material.DIAMOND || material == Material.EMERALD) {
+                spawners.computeIfAbsent(material, m -> new ArrayList<>()).add(spawner);
+            }
+        });
+    }
+
+    /**
+     * Adds a rotating generator to the bucket of the resource its spawner drops.
+     */
+    public void addGenerator(RotatingGenerators generator) {
+        final var material = generator.getItemSpawner().getItemSpawnerType().getMaterial();
+        generators.computeIfAbsent(material, m -> new ArrayList<>()).add(generator);
+    }
+
+    public void clearGenerators() {
+        generators.clear();
+    }
+
+    public boolean isLastTier(int tier) {
+        return tier >= fireTimes.length - 1;
+    }
+
+    public int getFireTime(int tier) {
+        return fireTimes[tier];
+    }
+
+    public String getTierName(int tier) {
+        return tierNames[tier];
+    }
+
+    public Material getResource(int tier) {
+        return resources[tier];
+    }
+
+    public List<ItemSpawner> getSpawners(Material resource) {
+        return spawners.getOrDefault(resource, Collections.emptyList());
+    }
+
+    public List<RotatingGenerators> getGenerators(Material resource) {
+        return generators.getOrDefault(resource, Collections.emptyList());
+    }
+}
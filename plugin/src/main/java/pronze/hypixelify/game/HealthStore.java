@@ -0,0 +1,101 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Last sent health of the players of an arena. Every player gets a slot for as long
+ * as it is part of the arena, values and flags are kept in primitive arrays indexed by
+ * that slot so the per tick comparison does not box.
+ */
+public class HealthStore {
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final BitSet used = new BitSet();
+    /* slots that have a health value */
+    private final BitSet known = new BitSet();
+    /* slots whose player already received every score */
+    private final BitSet synced = new BitSet();
+    private int[] health;
+
+    public HealthStore(int expectedPlayers) {
+        health = new int[Math.max(expectedPlayers, 8)];
+    }
+
+    /**
+     * @return the slot of the player, a free slot is assigned on first use
+     */
+    public int slotOf(Player player) {
+        final var uuid = player.getUniqueId();
+        final var slot = slots.get(uuid);
+        if (slot != null) {
+            return slot;
+        }
+        final var newSlot = used.nextClearBit(0);
+        used.set(newSlot);
+        if (newSlot >= health.length) {
+            health = Arrays.copyOf(health, health.length * 2);
+        }
+        slots.put(uuid, newSlot);
+        return newSlot;
+    }
+
+    /**
+     * Stores the health of the slot.
+     *
+     * @return true if the value differs from the stored one or none was stored yet
+     */
+    public boolean update(int slot, int value) {
+        if (known.get(slot) && health[slot] == value) {
+            return false;
+        }
+        known.set(slot);
+        health[slot] = value;
+        return true;
+    }
+
+    public boolean hasHealth(int slot) {
+        return known.get(slot);
+    }
+
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    /**
+     * Marks the slot as fully synced.
+     *
+     * @return true if the slot was not synced before
+     */
+    public boolean markSynced(int slot) {
+        if (synced.get(slot)) {
+            return false;
+        }
+        synced.set(slot);
+        return true;
+    }
+
+    /**
+     * Frees the slot of the player so it can be reused.
+     */
+    public void free(UUID uuid) {
+        final var slot = slots.remove(uuid);
+        if (slot == null) {
+            return;
+        }
+        used.clear(slot);
+        known.clear(slot);
+        synced.clear(slot);
+    }
+
+    public void clear() {
+        slots.clear();
+        used.clear();
+        known.clear();
+        synced.clear();
+    }
+}
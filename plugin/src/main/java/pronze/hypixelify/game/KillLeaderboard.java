@@ -0,0 +1,132 @@
+package pronze.hypixelify.game;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Top killers of an arena, kept up to date on every kill. Only the best {@code size} players
+ * are held in the ordered set, so a kill costs O(log size) and reading a rank is an array access.
+ * Updates happen on the main thread, the ranks can be read from any thread.
+ */
+public class KillLeaderboard {
+    public enum TieBreaker {
+        /* equal kills rank by who reached that amount first */
+        FIRST_TO_REACH,
+        NAME
+    }
+
+    private static final Rank[] NO_RANKS = new Rank[0];
+
+    private final int size;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> top;
+    /* immutable copy of the ranked entries, replaced as a whole on every change */
+    private volatile Rank[] ranking = NO_RANKS;
+    private long sequence;
+
+    public KillLeaderboard(int size, TieBreaker tieBreaker) {
+        this.size = Math.max(1, size);
+        final Comparator<Entry> byKills = (a, b) -> Integer.compare(b.kills, a.kills);
+        final Comparator<Entry> tie = tieBreaker == TieBreaker.NAME
+                ? Comparator.comparing((Entry entry) -> entry.name, String.CASE_INSENSITIVE_ORDER)
+                : Comparator.comparingLong(entry -> entry.reachedAt);
+        top = new TreeSet<>(byKills.thenComparing(tie)
+                .thenComparing(entry -> entry.uuid));
+    }
+
+    /**
+     * Records the new kill count of a player, kill counts are expected to only grow.
+     */
+    public void update(UUID uuid, String name, int kills) {
+        var entry = entries.get(uuid);
+        if (entry == null) {
+            entry = new Entry(uuid);
+            entries.put(uuid, entry);
+        }
+        if (entry.kills == kills && name.equals(entry.name)) {
+            return;
+        }
+
+        final var ranked = top.remove(entry);
+        entry.name = name;
+        if (entry.kills != kills) {
+            entry.kills = kills;
+            entry.reachedAt = sequence++;
+        }
+
+        if (ranked || top.size() < size) {
+            top.add(entry);
+        } else if (top.comparator().compare(entry, top.last()) < 0) {
+            top.pollLast();
+            top.add(entry);
+        } else {
+            return;
+        }
+        final var ranks = new Rank[top.size()];
+        var i = 0;
+        for (var held : top) {
+            ranks[i++] = new Rank(held.name, held.kills);
+        }
+        ranking = ranks;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return the amount of ranks currently filled, never more than {@link #getSize()}
+     */
+    public int getRanked() {
+        return ranking.length;
+    }
+
+    /**
+     * @param rank 0 based rank
+     * @return name of the player at the rank, null if nobody holds it
+     */
+    public String getName(int rank) {
+        final var ranking = this.ranking;
+        return rank < ranking.length ? ranking[rank].name : null;
+    }
+
+    /**
+     * @param rank 0 based rank
+     * @return kills of the player at the rank, 0 if nobody holds it
+     */
+    public int getKills(int rank) {
+        final var ranking = this.ranking;
+        return rank < ranking.length ? ranking[rank].kills : 0;
+    }
+
+    public void clear() {
+        entries.clear();
+        top.clear();
+        ranking = NO_RANKS;
+        sequence = 0;
+    }
+
+    private static class Rank {
+        private final String name;
+        private final int kills;
+
+        private Rank(String name, int kills) {
+            this.name = name;
+            this.kills = kills;
+        }
+    }
+
+    private static class Entry {
+        private final UUID uuid;
+        private String name = "";
+        private int kills;
+        private long reachedAt;
+
+        private Entry(UUID uuid) {
+            this.uuid = uuid;
+        }
+    }
+}
@@ -8,6 +8,9 @@ import java.util.List;
 
 @Data
 public class PlayerData {
+    /* captured while the player is in the game, they may be offline once it ends */
+    private String name;
+    private String team;
     private int kills;
     private int deaths;
     private int finalKills;
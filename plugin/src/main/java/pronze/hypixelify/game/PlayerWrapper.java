@@ -20,7 +20,7 @@ public class PlayerWrapper implements pronze.hypixelify.api.wrapper.PlayerWrappe
     public PlayerWrapper(Player player) {
         name = player.getDisplayName();
         instance = player;
-        shout = SBAHypixelify.getConfigurator().config.getInt("shout.time-out", 60);
+        shout = SBAHypixelify.getSettings().shoutTimeOut;
         statistic = Main.getPlayerStatisticsManager().getStatistic(instance);
     }
 
@@ -39,7 +39,7 @@ public class PlayerWrapper implements pronze.hypixelify.api.wrapper.PlayerWrappe
                     shout--;
                     if (shout == 0) {
                         shouted = false;
-                        shout = SBAHypixelify.getConfigurator().config.getInt("shout.time-out", 60);
+                        shout = SBAHypixelify.getSettings().shoutTimeOut;
                         this.cancel();
                     }
                 }
@@ -0,0 +1,108 @@
+package pronze.hypixelify.game;
+
+import org.bukkit.inventory.ItemStack;
+import org.screamingsandals.bedwars.Main;
+import org.screamingsandals.bedwars.api.BedwarsAPI;
+import org.screamingsandals.bedwars.game.GamePlayer;
+import pronze.hypixelify.utils.ShopUtil;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.screamingsandals.bedwars.lib.nms.title.Title.sendTitle;
+import static pronze.hypixelify.lib.lang.I.i18n;
+
+/**
+ * Respawn countdowns of the dead players of an arena, ticked every server tick by the arena
+ * ticker. Every countdown advances one second 20 ticks after its previous one, counted from
+ * the death of its player.
+ */
+public class RespawnCountdowns {
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final List<Countdown> countdowns = new ArrayList<>();
+    private long tick;
+
+    public void start(GamePlayer gamePlayer, List<ItemStack> items, int seconds) {
+        final var countdown = new Countdown(gamePlayer, items, seconds);
+        /* the first second is shown right away, as the death happened now */
+        if (!countdown.tick()) {
+            countdown.nextTick = tick + TICKS_PER_SECOND;
+            countdowns.add(countdown);
+        }
+    }
+
+    public void tick() {
+        tick++;
+        if (countdowns.isEmpty()) {
+            return;
+        }
+        final Iterator<Countdown> iterator = countdowns.iterator();
+        while (iterator.hasNext()) {
+            final var countdown = iterator.next();
+            if (tick < countdown.nextTick) {
+                continue;
+            }
+            if (countdown.tick()) {
+                iterator.remove();
+            } else {
+                countdown.nextTick += TICKS_PER_SECOND;
+            }
+        }
+    }
+
+    public void clear() {
+        countdowns.clear();
+    }
+
+    private static class Countdown {
+        private final GamePlayer gamePlayer;
+        private final List<ItemStack> items;
+        private int livingTime;
+        private byte buffer = 2;
+        private long nextTick;
+
+        private Countdown(GamePlayer gamePlayer, List<ItemStack> items, int livingTime) {
+            this.gamePlayer = gamePlayer;
+            this.items = items;
+            this.livingTime = livingTime;
+        }
+
+        /**
+         * @return true once the countdown is over
+         */
+        private boolean tick() {
+            final var player = gamePlayer.player;
+            if (!BedwarsAPI.getInstance().isPlayerPlayingAnyGame(player)) {
+                return true;
+            }
+
+            //send custom title because we disabled Bedwars from showing any title
+            if (livingTime > 0) {
+                sendTitle(player, i18n("respawn-title"),
+                        i18n("respawn-subtitle")
+                                .replace("%time%", String.valueOf(livingTime)),
+                        0, 20, 0);
+
+                player.sendMessage(i18n("respawn-message")
+                        .replace("%time%", String.valueOf(livingTime)));
+                livingTime--;
+            }
+
+            if (livingTime == 0) {
+                if (gamePlayer.isSpectator && buffer > 0) {
+                    buffer--;
+                } else {
+                    player.sendMessage(i18n("respawned-message"));
+                    sendTitle(player, i18n("respawned-title"), "",
+                            5, 40, 5);
+                    ShopUtil.giveItemToPlayer(items, player,
+                            Main.getGame(gamePlayer.getGame().getName()).getPlayerTeam(gamePlayer).getColor());
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -8,16 +8,13 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.game.ItemSpawner;
 import org.screamingsandals.bedwars.game.Game;
-import org.screamingsandals.bedwars.lib.nms.holograms.Hologram;
 import org.screamingsandals.bedwars.lib.ext.paperlib.PaperLib;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.utils.BedWarsInternals;
 import pronze.hypixelify.utils.Logger;
-import pronze.hypixelify.utils.SBAUtil;
 
 import java.util.*;
 
@@ -27,13 +24,14 @@ public class RotatingGenerators implements pronze.hypixelify.api.game.RotatingGe
     public static final String entityName = "sba_rot_entity";
     public static List<RotatingGenerators> cache = new ArrayList<>();
     private final ItemSpawner itemSpawner;
-    protected BukkitTask rotatingTask;
     private ArmorStand armorStand;
     private Location location;
     private ItemStack itemStack;
     private int time;
     private int tierLevel;
     private Game game;
+    private VirtualArmorStand virtualStand;
+    private final Location viewerLocation = new Location(null, 0, 0, 0);
 
     public RotatingGenerators(ItemSpawner spawner,
                               ItemStack itemStack,
@@ -42,7 +40,6 @@ public class RotatingGenerators implements pronze.hypixelify.api.game.RotatingGe
         this.location = spawner.getLocation();
         this.itemStack = itemStack;
         this.itemSpawner = spawner;
-        cache.add(this);
     }
 
     public static void destroy(List<RotatingGenerators> rotatingGenerators) {
@@ -60,21 +57,76 @@ public class RotatingGenerators implements pronze.hypixelify.api.game.RotatingGe
         return type == Material.DIAMOND || type == Material.EMERALD;
     }
 
-    public void scheduleTask() {
-        rotatingTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                location.setYaw(location.getYaw() + 10f);
-                armorStand.teleport(location);
+    /**
+     * Advances the rotation, the stand is only moved if its chunk is loaded and a player
+     * of the game is close enough to see it.
+     *
+     * @return true if the stand was moved
+     */
+    public boolean rotate(double viewDistanceSquared) {
+        location.setYaw(location.getYaw() + 10f);
+        if (virtualStand != null) {
+            return rotateVirtual(viewDistanceSquared);
+        }
+        if (armorStand == null || !armorStand.isValid()) {
+            return false;
+        }
+        final var world = location.getWorld();
+        if (world == null || !world.isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4)) {
+            return false;
+        }
+        if (!hasViewer(viewDistanceSquared)) {
+            return false;
+        }
+        armorStand.teleport(location);
+        return true;
+    }
+
+    private boolean rotateVirtual(double viewDistanceSquared) {
+        final var players = game.getConnectedPlayers();
+        virtualStand.retainViewers(players);
+        for (var player : players) {
+            if (isInViewDistance(player, viewDistanceSquared)) {
+                virtualStand.show(player);
+            } else {
+                virtualStand.hide(player);
+            }
+        }
+        virtualStand.rotate(location.getYaw());
+        return true;
+    }
+
+    private boolean hasViewer(double viewDistanceSquared) {
+        for (var player : game.getConnectedPlayers()) {
+            if (isInViewDistance(player, viewDistanceSquared)) {
+                return true;
             }
-        }.runTaskTimer(SBAHypixelify.getInstance(), 0L, 2L);
+        }
+        return false;
+    }
+
+    private boolean isInViewDistance(Player player, double viewDistanceSquared) {
+        if (player.getWorld() != location.getWorld()) {
+            return false;
+        }
+        final var dx = player.getLocation(viewerLocation).getX() - location.getX();
+        final var dz = viewerLocation.getZ() - location.getZ();
+        return dx * dx + dz * dz <= viewDistanceSquared;
+    }
+
+    /**
+     * Makes every virtual stand spawn again for the player, its client dropped them.
+     */
+    public static void forgetViewer(Player player) {
+        cache.stream()
+                .filter(generator -> generator != null && generator.virtualStand != null)
+                .forEach(generator -> generator.virtualStand.forget(player));
     }
 
     public ArmorStand getArmorStandEntity() {
         return armorStand;
     }
 
-    @SuppressWarnings("unchecked")
     public RotatingGenerators spawn(List<Player> players) {
         destroy();
 
@@ -82,38 +134,37 @@ public class RotatingGenerators implements pronze.hypixelify.api.game.RotatingGe
             return null;
         }
 
-        try {
-            final var countdownHologramField = game.getClass()
-                    .getDeclaredField("countdownHolograms");
-            countdownHologramField.setAccessible(true);
-
-            final var countdownHologram = (Hologram) ((Map<?, ?>) countdownHologramField.get(game))
-                    .get(itemSpawner);
-
-            final var locationField = countdownHologram
-                    .getClass()
-                    .getDeclaredField("location");
-            locationField.setAccessible(true);
-            locationField.set(countdownHologram, location.clone()
-                    .subtract(0,
-                            Main.getConfigurator().node(
-                            "spawner-holo-height").getDouble(), 0
-                    ).add(0,
-                            SBAHypixelify.getConfigurator().config.getDouble(
-                                    "floating-generator.holo-height",
-                            2.0
-                    ), 0)
-            );
-            countdownHologram.removeViewers(players);
-            countdownHologram.addViewers(players);
-        } catch (Throwable t) {
-            Logger.trace(t.getMessage());
+        if (!BedWarsInternals.canRelocateHolograms()) {
             return null;
         }
 
+        final var countdownHologram = BedWarsInternals.getCountdownHologram(game, itemSpawner);
+        if (countdownHologram == null) {
+            Logger.trace("No countdown hologram for spawner of game: {}", game.getName());
+            return null;
+        }
+        BedWarsInternals.setHologramLocation(countdownHologram, location.clone()
+                .subtract(0,
+                        Main.getConfigurator().node(
+                        "spawner-holo-height").getDouble(), 0
+                ).add(0,
+                        SBAHypixelify.getConfigurator().config.getDouble(
+                                "floating-generator.holo-height",
+                        2.0
+                ), 0)
+        );
+        countdownHologram.removeViewers(players);
+        countdownHologram.addViewers(players);
+
         final var itemHeight = SBAHypixelify.getConfigurator()
                 .config.getDouble("floating-generator.item-height", 0.25);
 
+        if (SBAHypixelify.isProtocolLib() && VirtualArmorStand.isSupported() && SBAHypixelify.getConfigurator()
+                .config.getBoolean("floating-generator.packet-entities", false)) {
+            virtualStand = new VirtualArmorStand(location.clone().add(0, itemHeight, 0), itemStack);
+            return register();
+        }
+
         PaperLib.getChunkAtAsync(location)
                 .thenAccept(chunk -> {
                     armorStand = (ArmorStand) location
@@ -140,18 +191,24 @@ public class RotatingGenerators implements pronze.hypixelify.api.game.RotatingGe
                                     .equals(armorStand.getLocation().getBlock()) &&
                                     !entity.equals(armorStand))
                             .forEach(Entity::remove);
-                    scheduleTask();
                 });
+        return register();
+    }
+
+    /* only spawned generators are animated and destroyed through the cache */
+    private RotatingGenerators register() {
+        if (!cache.contains(this)) {
+            cache.add(this);
+        }
         return this;
     }
 
     public void destroy() {
         if (armorStand != null)
             armorStand.remove();
-        cancelTask();
-    }
-
-    public void cancelTask() {
-        SBAUtil.cancelTask(rotatingTask);
+        if (virtualStand != null) {
+            virtualStand.destroy();
+            virtualStand = null;
+        }
     }
 }
@@ -0,0 +1,156 @@
+package pronze.hypixelify.game;
+
+import com.comphenix.protocol.ProtocolLibrary;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.utility.MinecraftVersion;
+import com.comphenix.protocol.wrappers.EnumWrappers;
+import com.comphenix.protocol.wrappers.Pair;
+import com.comphenix.protocol.wrappers.WrappedDataWatcher;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.screamingsandals.bedwars.Main;
+import pronze.hypixelify.packets.*;
+import pronze.hypixelify.utils.ScoreboardUtil;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An invisible armor stand wearing an item that only exists on the clients it was sent to.
+ * No server side entity is spawned, so there is nothing to tick or to clean up after a crash.
+ */
+public class VirtualArmorStand {
+    /* network id of the armor stand entity type on 1.16 */
+    private static final int ARMOR_STAND_TYPE_ID = 1;
+    /* counts down from the top of the id range so it never meets the ids handed out by the server */
+    private static final AtomicInteger ENTITY_IDS = new AtomicInteger(Integer.MAX_VALUE);
+
+    private final int entityId = ENTITY_IDS.getAndDecrement();
+    private final UUID uniqueId = UUID.randomUUID();
+    private final Location location;
+    private final ItemStack helmet;
+    private final Map<UUID, Player> viewers = new HashMap<>();
+    private List<PacketContainer> spawnPackets;
+
+    /**
+     * The spawn and equipment packets are built in their 1.16 layout, only call with ProtocolLib present.
+     */
+    public static boolean isSupported() {
+        return !Main.isLegacy() && ProtocolLibrary.getProtocolManager()
+                .getMinecraftVersion().compareTo(MinecraftVersion.NETHER_UPDATE) >= 0;
+    }
+
+    public VirtualArmorStand(Location location, ItemStack helmet) {
+        this.location = location.clone();
+        this.helmet = helmet;
+    }
+
+    public boolean isViewer(Player player) {
+        return viewers.containsKey(player.getUniqueId());
+    }
+
+    public void show(Player player) {
+        if (viewers.putIfAbsent(player.getUniqueId(), player) != null) {
+            return;
+        }
+        if (spawnPackets == null) {
+            spawnPackets = createSpawnPackets();
+        }
+        ScoreboardUtil.sendPackets(player, spawnPackets);
+    }
+
+    public void hide(Player player) {
+        if (viewers.remove(player.getUniqueId()) != null && player.isOnline()) {
+            ScoreboardUtil.sendPackets(player, List.of(createDestroyPacket()));
+        }
+    }
+
+    /**
+     * Hides the stand from every viewer that is not part of the given players.
+     */
+    public void retainViewers(Collection<Player> players) {
+        if (viewers.isEmpty()) {
+            return;
+        }
+        final var stale = new ArrayList<Player>();
+        viewers.values().forEach(viewer -> {
+            if (!players.contains(viewer)) {
+                stale.add(viewer);
+            }
+        });
+        stale.forEach(this::hide);
+    }
+
+    /**
+     * Drops the player from the viewers without a destroy packet, used when the client
+     * has already discarded its entities (respawn, world change).
+     */
+    public void forget(Player player) {
+        viewers.remove(player.getUniqueId());
+    }
+
+    public void rotate(float yaw) {
+        if (viewers.isEmpty()) {
+            return;
+        }
+        final var headRotation = new WrapperPlayServerEntityHeadRotation();
+        headRotation.setEntityID(entityId);
+        headRotation.setHeadYaw((byte) (yaw * 256.0F / 360.0F));
+
+        final var look = new WrapperPlayServerEntityLook();
+        look.setEntityID(entityId);
+        look.setYaw(yaw);
+        look.setOnGround(true);
+
+        final var packets = List.of(look.getHandle(), headRotation.getHandle());
+        viewers.values().forEach(viewer -> ScoreboardUtil.sendPackets(viewer, packets));
+    }
+
+    public void destroy() {
+        if (viewers.isEmpty()) {
+            return;
+        }
+        final var packets = List.of(createDestroyPacket());
+        viewers.values()
+                .stream()
+                .filter(Player::isOnline)
+                .forEach(viewer -> ScoreboardUtil.sendPackets(viewer, packets));
+        viewers.clear();
+    }
+
+    private List<PacketContainer> createSpawnPackets() {
+        final var spawn = new WrapperPlayServerSpawnEntityLiving();
+        spawn.setEntityID(entityId);
+        spawn.setUniqueId(uniqueId);
+        spawn.setType(ARMOR_STAND_TYPE_ID);
+        spawn.setX(location.getX());
+        spawn.setY(location.getY());
+        spawn.setZ(location.getZ());
+        spawn.setYaw(location.getYaw());
+        spawn.setHeadYaw(location.getYaw());
+
+        final var watcher = new WrappedDataWatcher();
+        /* entity flags: invisible */
+        watcher.setObject(new WrappedDataWatcher.WrappedDataWatcherObject(0,
+                WrappedDataWatcher.Registry.get(Byte.class)), (byte) 0x20);
+        /* no gravity */
+        watcher.setObject(new WrappedDataWatcher.WrappedDataWatcherObject(5,
+                WrappedDataWatcher.Registry.get(Boolean.class)), true);
+        final var metadata = new WrapperPlayServerEntityMetadata();
+        metadata.setEntityID(entityId);
+        metadata.setMetadata(watcher.getWatchableObjects());
+
+        final var equipment = new WrapperPlayServerEntityEquipment();
+        equipment.setEntityID(entityId);
+        equipment.setSlotStackPairs(List.of(new Pair<>(EnumWrappers.ItemSlot.HEAD, helmet)));
+
+        return List.of(spawn.getHandle(), metadata.getHandle(), equipment.getHandle());
+    }
+
+    private PacketContainer createDestroyPacket() {
+        final var destroy = new WrapperPlayServerEntityDestroy();
+        destroy.setEntityIds(new int[]{entityId});
+        return destroy.getHandle();
+    }
+}
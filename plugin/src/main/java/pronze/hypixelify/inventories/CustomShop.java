@@ -1,5 +1,6 @@
 package pronze.hypixelify.inventories;
 
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -10,6 +11,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.screamingsandals.bedwars.Main;
+import org.screamingsandals.bedwars.api.BedwarsAPI;
 import org.screamingsandals.bedwars.api.events.*;
 import org.screamingsandals.bedwars.api.game.ItemSpawnerType;
 import org.screamingsandals.bedwars.api.upgrades.Upgrade;
@@ -39,11 +41,17 @@ import org.screamingsandals.bedwars.utils.Sounds;
 import pronze.hypixelify.SBAHypixelify;
 import pronze.hypixelify.api.events.TeamUpgradePurchaseEvent;
 import pronze.hypixelify.listener.TeamUpgradeListener;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
 import pronze.hypixelify.utils.Logger;
 import pronze.hypixelify.utils.ShopUtil;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static org.screamingsandals.bedwars.lib.lang.I.i18nc;
@@ -58,12 +66,86 @@ public class CustomShop implements Listener {
             "healpool",
             "dragon"
     );
-    private final Map<String, InventorySet> shopMap = new HashMap<>();
+    /* filled from the preload workers and the main thread */
+    private final Map<String, InventorySet> shopMap = new ConcurrentHashMap<>();
+    /* file and parent flag every shop was parsed from, to parse it again on reload */
+    private final Map<String, ShopSource> shopSources = new ConcurrentHashMap<>();
+    /* shop key of every store shop file opened so far */
+    private final Map<String, String> shopKeys = new HashMap<>();
+    private final Map<String, ShopRenderCache> renderCaches = new HashMap<>();
+    private final boolean renderCacheEnabled;
+    /* compiled lore of every shop item, keyed by the item definition of the shop file */
+    private final Map<Object, LoreTemplate> itemLore = new IdentityHashMap<>();
+    private LoreTemplate defaultLore = LoreTemplate.EMPTY;
+    private boolean generateLoreByDefault;
 
     public CustomShop() {
         SBAHypixelify.getInstance().registerListener(this);
+        renderCacheEnabled = SBAHypixelify.getConfigurator().config.getBoolean("shop-render-cache", true);
 
-        loadNewShop("default", null, true);
+        loadLoreTemplates();
+        shopMap.put("default", loadNewShop("default", null, true));
+    }
+
+    private static String shopKey(File file, boolean parent) {
+        return (parent ? "+" : "-") + file.getAbsolutePath();
+    }
+
+    /**
+     * Parses the shop of every game store on the executor, so opening a shop never has to.
+     */
+    public CompletableFuture<Void> preload(Executor executor) {
+        final var futures = new ArrayList<CompletableFuture<?>>();
+        final var queued = new HashSet<String>();
+        BedwarsAPI.getInstance().getGames().forEach(game -> game.getGameStoreList().forEach(store -> {
+            final var fileName = store.getShopFile();
+            if (fileName == null) {
+                return;
+            }
+            final var file = normalizeShopFile(fileName);
+            final var parent = store.getUseParent();
+            final var name = shopKey(file, parent);
+            if (!queued.add(name)) {
+                return;
+            }
+            futures.add(CompletableFuture.runAsync(() ->
+                    shopMap.computeIfAbsent(name, key -> loadNewShop(key, file, parent)), executor));
+        }));
+        Logger.trace("Preloading {} shops", futures.size());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Parses every loaded shop that includes the changed file again and swaps it in, shops
+     * that are open right now keep the old one until they are closed. May run off the main thread.
+     */
+    public void reloadShopFile(Path changed) {
+        final var reloaded = new ArrayList<String>();
+        shopSources.forEach((name, source) -> {
+            if (includedFile(source.file, source.useParent).equals(changed.toAbsolutePath())) {
+                shopMap.put(name, loadNewShop(name, source.file, source.useParent));
+                reloaded.add(name);
+            }
+        });
+        if (reloaded.isEmpty()) {
+            return;
+        }
+        Logger.trace("Reloaded {} shops from {}", reloaded.size(), changed.getFileName());
+        /* the old item definitions are gone, drop what was derived from them on the main thread */
+        Bukkit.getScheduler().runTask(SBAHypixelify.getInstance(), () -> {
+            itemLore.clear();
+            renderCaches.clear();
+        });
+    }
+
+    /**
+     * @return the file the shop is parsed from, parent stores and the default shop use shops/shop.yml
+     */
+    private static Path includedFile(File file, boolean useParent) {
+        if (useParent || file == null) {
+            return SBAHypixelify.getConfigurator().dataFolder.toPath().resolve("shops/shop.yml").toAbsolutePath();
+        }
+        return file.toPath().toAbsolutePath();
     }
 
     public static File normalizeShopFile(String name) {
@@ -105,12 +187,14 @@ public class CustomShop implements Listener {
                 fileName = store.getShopFile();
             }
             if (fileName != null) {
-                var file = normalizeShopFile(fileName);
-                var name = (parent ? "+" : "-") + file.getAbsolutePath();
-                if (!shopMap.containsKey(name)) {
-                    loadNewShop(name, file, parent);
-                }
-                PlayerMapper.wrapPlayer(player).openInventory(shopMap.get(name));
+                final var shopFile = fileName;
+                final var useParent = parent;
+                final var name = shopKeys.computeIfAbsent((parent ? "+" : "-") + shopFile,
+                        key -> shopKey(normalizeShopFile(shopFile), useParent));
+                /* only parses here if the store was added after the preload */
+                final var shop = shopMap.computeIfAbsent(name,
+                        key -> loadNewShop(key, normalizeShopFile(shopFile), useParent));
+                PlayerMapper.wrapPlayer(player).openInventory(shop);
             } else {
                 PlayerMapper.wrapPlayer(player).openInventory(shopMap.get("default"));
             }
@@ -120,10 +204,46 @@ public class CustomShop implements Listener {
     }
 
     public void onGeneratingItem(ItemRenderEvent event) {
+        final var start = Profiler.start();
+        try {
+            renderItem(event);
+        } finally {
+            Profiler.record(gameNameOf(event.getPlayer().as(Player.class)), Subsystem.SHOP_RENDER, start);
+        }
+    }
+
+    private static String gameNameOf(Player player) {
+        final var arena = SBAHypixelify.getArena(player);
+        return arena == null ? Profiler.GLOBAL : arena.getGame().getName();
+    }
+
+    private void renderItem(ItemRenderEvent event) {
         var itemInfo = event.getItem();
         var item = itemInfo.getStack();
         var player = event.getPlayer().as(Player.class);
-        var game = Main.getPlayerGameProfile(player).getGame();
+        final var arena = SBAHypixelify.getArena(player);
+        if (arena == null) {
+            return;
+        }
+        final var game = arena.getGame();
+        final var storage = arena.getStorage();
+        final var runningTeam = game.getTeamOfPlayer(player);
+
+        ShopRenderCache cache = null;
+        ShopRenderCache.Key cacheKey = null;
+        if (renderCacheEnabled && runningTeam != null) {
+            final var teamName = runningTeam.getName();
+            cache = renderCaches.computeIfAbsent(game.getName(), name -> new ShopRenderCache());
+            cache.validate(storage);
+            cacheKey = new ShopRenderCache.Key(itemInfo.getOriginal(), teamName, storage.getSharpness(teamName),
+                    storage.getProtection(teamName), storage.getEfficiency(teamName));
+            final var cached = cache.get(cacheKey);
+            if (cached != null) {
+                event.setStack(cached);
+                return;
+            }
+        }
+
         var prices = itemInfo.getOriginal().getPrices();
         if (!prices.isEmpty()) {
             var priceObject = prices.get(0);
@@ -136,32 +256,26 @@ public class CustomShop implements Listener {
             setLore(item, itemInfo, String.valueOf(price), type);
         }
 
-        final var optionalStorage = SBAHypixelify.getStorage(game);
-        if (optionalStorage.isPresent()) {
-            final var storage = optionalStorage.get();
+        final var bukkitItemStack = item.as(ItemStack.class);
+        final var typeName = bukkitItemStack.getType().name();
 
-            final var bukkitItemStack = item.as(ItemStack.class);
-            final var typeName = bukkitItemStack.getType().name();
-
-            final var runningTeam = game.getTeamOfPlayer(player);
-            if (typeName.endsWith("SWORD")) {
-                int sharpness = storage.getSharpness(runningTeam.getName());
-                if (sharpness != 0) {
-                    bukkitItemStack.addEnchantment(Enchantment.DAMAGE_ALL, sharpness);
-                }
-            } else if (typeName.endsWith("BOOTS")) {
-                int protection = storage.getProtection(runningTeam.getName());
-                if (protection != 0) {
-                    bukkitItemStack.addEnchantment(Enchantment.PROTECTION_ENVIRONMENTAL, protection);
-                }
-            } else if (typeName.endsWith("PICKAXE")) {
-                final int efficiency = storage.getEfficiency(runningTeam.getName());
-                if (efficiency != 0) {
-                    bukkitItemStack.addEnchantment(Enchantment.DIG_SPEED, efficiency);
-                }
+        if (typeName.endsWith("SWORD")) {
+            int sharpness = storage.getSharpness(runningTeam.getName());
+            if (sharpness != 0) {
+                bukkitItemStack.addEnchantment(Enchantment.DAMAGE_ALL, sharpness);
+            }
+        } else if (typeName.endsWith("BOOTS")) {
+            int protection = storage.getProtection(runningTeam.getName());
+            if (protection != 0) {
+                bukkitItemStack.addEnchantment(Enchantment.PROTECTION_ENVIRONMENTAL, protection);
+            }
+        } else if (typeName.endsWith("PICKAXE")) {
+            final int efficiency = storage.getEfficiency(runningTeam.getName());
+            if (efficiency != 0) {
+                bukkitItemStack.addEnchantment(Enchantment.DIG_SPEED, efficiency);
             }
-            item = ItemFactory.build(bukkitItemStack).orElse(item);
         }
+        item = ItemFactory.build(bukkitItemStack).orElse(item);
 
         Item finalItem = item;
         itemInfo.getProperties().forEach(property -> {
@@ -179,32 +293,42 @@ public class CustomShop implements Listener {
                 event.setStack(ItemFactory.build(applyEvent.getStack()).orElse(finalItem));
             }
         });
+
+        if (cache != null) {
+            cache.put(cacheKey, itemInfo.getStack());
+        }
     }
 
     public Item setLore(Item item,
                         PlayerItemInfo itemInfo,
                         String price,
                         ItemSpawnerType type) {
-        var enabled = itemInfo.getFirstPropertyByName("generateLore")
-                .map(property -> property.getPropertyData().getBoolean())
-                .orElseGet(() -> Main.getConfigurator().node("lore", "generate-automatically").getBoolean(true));
-
-        if (enabled) {
-            var loreText = itemInfo.getFirstPropertyByName("generatedLoreText")
-                    .map(property -> property.getPropertyData().childrenList().stream().map(ConfigurationNode::getString))
-                    .orElseGet(() -> Main.getConfigurator().node("lore", "text").childrenList().stream().map(ConfigurationNode::getString))
-                    .map(s -> s
-                            .replaceAll("%price%", price)
-                            .replaceAll("%resource%", type.getItemName())
-                            .replaceAll("%amount%", Integer.toString(itemInfo.getStack().getAmount())))
-                    .map(AdventureHelper::toComponent)
-                    .collect(Collectors.toList());
-
-            item.getLore().addAll(loreText);
-        }
+        loreTemplateOf(itemInfo).appendTo(item.getLore(), price, type.getItemName(),
+                Integer.toString(itemInfo.getStack().getAmount()));
         return item;
     }
 
+    private LoreTemplate loreTemplateOf(PlayerItemInfo itemInfo) {
+        return itemLore.computeIfAbsent(itemInfo.getOriginal(), original -> {
+            final boolean enabled = itemInfo.getFirstPropertyByName("generateLore")
+                    .map(property -> property.getPropertyData().getBoolean())
+                    .orElse(generateLoreByDefault);
+            if (!enabled) {
+                return LoreTemplate.EMPTY;
+            }
+            return itemInfo.getFirstPropertyByName("generatedLoreText")
+                    .map(property -> compileLore(property.getPropertyData()))
+                    .orElse(defaultLore);
+        });
+    }
+
+    private static LoreTemplate compileLore(ConfigurationNode node) {
+        return LoreTemplate.compile(node.childrenList()
+                .stream()
+                .map(ConfigurationNode::getString)
+                .collect(Collectors.toList()));
+    }
+
     public void onPreAction(PreClickEvent event) {
         if (event.isCancelled()) {
             return;
@@ -225,10 +349,15 @@ public class CustomShop implements Listener {
             return;
         }
 
-        if (event.getItem().getFirstPropertyByName("upgrade").isPresent()) {
-            handleUpgrade(event);
-        } else {
-            handleBuy(event);
+        final var start = Profiler.start();
+        try {
+            if (event.getItem().getFirstPropertyByName("upgrade").isPresent()) {
+                handleUpgrade(event);
+            } else {
+                handleBuy(event);
+            }
+        } finally {
+            Profiler.record(gameNameOf(event.getPlayer().as(Player.class)), Subsystem.SHOP_PURCHASE, start);
         }
     }
 
@@ -239,7 +368,7 @@ public class CustomShop implements Listener {
             Player player = event.getPlayer();
             CurrentTeam team = (CurrentTeam) event.getGame().getTeamOfPlayer(player);
 
-            if (Main.getConfigurator().node("automatic-coloring-in-shop").getBoolean()) {
+            if (SBAHypixelify.getSettings().automaticShopColoring) {
                 event.setStack(Main.applyColor(team.teamInfo.color, event.getStack()));
             }
         }
@@ -253,7 +382,25 @@ public class CustomShop implements Listener {
         inventorySet.getMainSubInventory().process();
     }
 
-    private void loadNewShop(String name, File file, boolean useParent) {
+    private void loadLoreTemplates() {
+        generateLoreByDefault = Main.getConfigurator().node("lore", "generate-automatically").getBoolean(true);
+        defaultLore = compileLore(Main.getConfigurator().node("lore", "text"));
+        itemLore.clear();
+    }
+
+    /**
+     * Compiles the lore settings of the BedWars config again, call on the main thread after BedWars reloaded.
+     */
+    public void reloadLoreTemplates() {
+        loadLoreTemplates();
+        /* cached items carry the old lore */
+        renderCaches.clear();
+    }
+
+    /**
+     * Parses a shop, may run off the main thread.
+     */
+    private InventorySet loadNewShop(String name, File file, boolean useParent) {
         final var shopInventory = SimpleInventoriesCore.builder()
                 .genericShop(true)
                 .genericShopPriceTypeRequired(true)
@@ -356,12 +503,7 @@ public class CustomShop implements Listener {
                     }
                     return "";
                 })
-                .call(categoryBuilder -> {
-                    var shopFileName = useParent ? "shop.yml" : file != null ? name : "shop.yml";
-                    categoryBuilder.include(Include.of(SBAHypixelify.getConfigurator()
-                            .dataFolder.toPath()
-                            .resolve("shops/" + shopFileName).toAbsolutePath()));
-                })
+                .call(categoryBuilder -> categoryBuilder.include(Include.of(includedFile(file, useParent))))
                 .getInventorySet();
 
         try {
@@ -373,24 +515,24 @@ public class CustomShop implements Listener {
             loadDefault(shopInventory);
         }
 
-        shopMap.put(name, shopInventory);
+        shopSources.put(name, new ShopSource(file, useParent));
+        return shopInventory;
     }
 
     private Optional<Item> upgradeItem(OnTradeEvent event, String propertyName) {
         final var player = event.getPlayer().as(Player.class);
         final var stack = event.getStack().as(ItemStack.class);
-        final var game = Main.getPlayerGameProfile(player).getGame();
+        final var arena = SBAHypixelify.getArena(player);
         final var itemInfo = event.getItem();
-        final var team = game.getTeamOfPlayer(player);
-        final var optionalGameStorage = SBAHypixelify.getStorage(game);
         String price = null;
 
-        if (optionalGameStorage.isEmpty()) {
+        if (arena == null) {
             Logger.trace("Game storage empty at ApplyPropertyToItemEvent");
             return Optional.empty();
         }
 
-        final var gameStorage = optionalGameStorage.get();
+        final var team = arena.getGame().getTeamOfPlayer(player);
+        final var gameStorage = arena.getStorage();
 
         if (propertyName.equalsIgnoreCase("sharpness")
                 || propertyName.equalsIgnoreCase("protection")) {
@@ -434,8 +576,13 @@ public class CustomShop implements Listener {
     }
 
     private void handleBuy(OnTradeEvent event) {
+        final var settings = SBAHypixelify.getSettings();
         var player = event.getPlayer().as(Player.class);
-        var game = Main.getPlayerGameProfile(player).getGame();
+        final var arena = SBAHypixelify.getArena(player);
+        if (arena == null) {
+            return;
+        }
+        var game = arena.getGame();
         var clickType = event.getClickType();
         var itemInfo = event.getItem();
 
@@ -478,7 +625,7 @@ public class CustomShop implements Listener {
                     inInventory = inInventory + itemStack.getAmount();
                 }
             }
-            if (Main.getConfigurator().node("sell-max-64-per-click-in-shop").getBoolean()) {
+            if (settings.sellMax64PerClick) {
                 maxStackSize = Math.min(inInventory / priceOfOne, originalMaxStackSize);
             } else {
                 maxStackSize = inInventory / priceOfOne;
@@ -534,17 +681,17 @@ public class CustomShop implements Listener {
 
                         //since we are  setting the price to a different one on upgrade, we do the check again
                         if (!event.hasPlayerInInventory(materialItem)
-                                && !Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+                                && !settings.removePurchaseMessages) {
                             player.sendMessage(i18n("cannot-buy"));
                             return;
                         }
 
                         event.sellStack(materialItem);
-                        if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+                        if (!settings.removePurchaseMessages) {
                             player.sendMessage("§aYou purchased §e" + getNameOrCustomNameOfItem(newItem));
                         }
                         Sounds.playSound(player, player.getLocation(),
-                                Main.getConfigurator().node("sounds", "on_item_buy").getString(),
+                                settings.itemBuySound,
                                 Sounds.ENTITY_ITEM_PICKUP, 1, 1);
 
                         return;
@@ -559,32 +706,28 @@ public class CustomShop implements Listener {
             }
 
             final var typeName = newItem.getMaterial().as(Material.class).name();
-            final var optionalStorage = SBAHypixelify.getStorage(game);
+            final var gameStorage = arena.getStorage();
             var shouldSell = true;
 
-            if (optionalStorage.isPresent()) {
-                final var gameStorage = optionalStorage.get();
-
-                final var team = game.getTeamOfPlayer(player);
-                final var sharpness = gameStorage.getSharpness(team.getName());
-                final var efficiency = gameStorage.getEfficiency(team.getName());
-                final var bukkitItem = materialItem.as(ItemStack.class);
-
-                if (typeName.endsWith("SWORD")) {
-                    bukkitItem.addUnsafeEnchantment(Enchantment.DAMAGE_ALL, sharpness);
-                } else if (typeName.endsWith("BOOTS")
-                        || typeName.endsWith("CHESTPLATE")
-                        || typeName.endsWith("HELMET")
-                        || typeName.endsWith("LEGGINGS")) {
-                    shouldSell = false;
-                    ShopUtil.buyArmor(player, bukkitItem.getType(), gameStorage, game);
-                } else if (typeName.endsWith("PICKAXE")) {
-                    bukkitItem.addUnsafeEnchantment(Enchantment.DIG_SPEED, efficiency);
-                }
+            final var team = game.getTeamOfPlayer(player);
+            final var sharpness = gameStorage.getSharpness(team.getName());
+            final var efficiency = gameStorage.getEfficiency(team.getName());
+            final var bukkitItem = materialItem.as(ItemStack.class);
 
-                newItem = ItemFactory.build(bukkitItem).orElse(newItem);
+            if (typeName.endsWith("SWORD")) {
+                bukkitItem.addUnsafeEnchantment(Enchantment.DAMAGE_ALL, sharpness);
+            } else if (typeName.endsWith("BOOTS")
+                    || typeName.endsWith("CHESTPLATE")
+                    || typeName.endsWith("HELMET")
+                    || typeName.endsWith("LEGGINGS")) {
+                shouldSell = false;
+                ShopUtil.buyArmor(player, bukkitItem.getType(), gameStorage, game);
+            } else if (typeName.endsWith("PICKAXE")) {
+                bukkitItem.addUnsafeEnchantment(Enchantment.DIG_SPEED, efficiency);
             }
 
+            newItem = ItemFactory.build(bukkitItem).orElse(newItem);
+
             event.sellStack(materialItem);
 
             if (shouldSell) {
@@ -594,14 +737,14 @@ public class CustomShop implements Listener {
                 }
             }
 
-            if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+            if (!settings.removePurchaseMessages) {
                 player.sendMessage(i18nc("buy_succes", game.getCustomPrefix()).replace("%item%", amount + "x " + getNameOrCustomNameOfItem(newItem))
                         .replace("%material%", priceAmount + " " + type.getItemName()));
             }
             Sounds.playSound(player, player.getLocation(),
-                    Main.getConfigurator().node("sounds", "on_item_buy").getString(), Sounds.ENTITY_ITEM_PICKUP, 1, 1);
+                    settings.itemBuySound, Sounds.ENTITY_ITEM_PICKUP, 1, 1);
         } else {
-            if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+            if (!settings.removePurchaseMessages) {
                 player.sendMessage(i18nc("buy_failed", game.getCustomPrefix()).replace("%item%", amount + "x " + getNameOrCustomNameOfItem(newItem))
                         .replace("%material%", priceAmount + " " + type.getItemName()));
             }
@@ -609,6 +752,7 @@ public class CustomShop implements Listener {
     }
 
     private void handleUpgrade(OnTradeEvent event) {
+        final var settings = SBAHypixelify.getSettings();
         var player = event.getPlayer().as(Player.class);
         var game = Main.getPlayerGameProfile(player).getGame();
         var itemInfo = event.getItem();
@@ -699,29 +843,35 @@ public class CustomShop implements Listener {
 
                 if (sendToAll) {
                     for (Player player1 : game.getTeamOfPlayer(player).getConnectedPlayers()) {
-                        if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+                        if (!settings.removePurchaseMessages) {
                             player1.sendMessage(i18nc("buy_succes", game.getCustomPrefix()).replace("%item%", itemName).replace("%material%",
                                     priceAmount + " " + type.getItemName()));
                         }
                         Sounds.playSound(player1, player1.getLocation(),
-                                Main.getConfigurator().node("sounds", "on_upgrade_buy").getString(),
+                                settings.upgradeBuySound,
                                 Sounds.ENTITY_EXPERIENCE_ORB_PICKUP, 1, 1);
                     }
                 } else {
-                    if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+                    if (!settings.removePurchaseMessages) {
                         player.sendMessage(i18nc("buy_succes", game.getCustomPrefix()).replace("%item%", itemName).replace("%material%",
                                 priceAmount + " " + type.getItemName()));
                     }
                     Sounds.playSound(player, player.getLocation(),
-                            Main.getConfigurator().node("sounds", "on_upgrade_buy").getString(),
+                            settings.upgradeBuySound,
                             Sounds.ENTITY_EXPERIENCE_ORB_PICKUP, 1, 1);
                 }
             }
         } else {
-            if (!Main.getConfigurator().node("removePurchaseMessages").getBoolean(false)) {
+            if (!settings.removePurchaseMessages) {
                 player.sendMessage(i18nc("buy_failed", game.getCustomPrefix()).replace("%item%", "UPGRADE").replace("%material%",
                         priceAmount + " " + type.getItemName()));
             }
         }
     }
-}
\ No newline at end of file
+
+    @RequiredArgsConstructor
+    private static class ShopSource {
+        private final File file;
+        private final boolean useParent;
+    }
+}
@@ -22,8 +22,13 @@ import pronze.hypixelify.utils.Logger;
 import pronze.hypixelify.utils.ShopUtil;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static pronze.hypixelify.lib.lang.I.i18n;
 
@@ -36,35 +41,51 @@ public class GamesInventory implements Listener {
             put(4, "squad");
         }
     };
-    private final HashMap<Integer, InventorySet> inventoryMap = new HashMap<>();
+    private final Map<Integer, InventorySet> inventoryMap = new ConcurrentHashMap<>();
 
-    public void loadInventory() {
+    /**
+     * Parses the inventory of every mode on the executor, each mode on its own.
+     */
+    public CompletableFuture<Void> loadInventory(Executor executor) {
+        final var futures = new ArrayList<CompletableFuture<?>>();
+        labels.forEach((val, label) -> futures.add(CompletableFuture.runAsync(() -> loadInventory(val, label), executor)));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Parses the inventory of the mode the changed file belongs to again, may run off the main thread.
+     */
+    public void reloadInventory(Path changed) {
+        final var fileName = changed.getFileName().toString().toLowerCase();
+        labels.forEach((val, label) -> {
+            if (fileName.equals(label + ".yml")) {
+                loadInventory(val, label);
+            }
+        });
+    }
+
+    private void loadInventory(int val, String label) {
         try {
-            labels.forEach((val, label) -> {
-                try {
-                    final var siFormat = SimpleInventoriesCore.builder()
-                            .categoryOptions(localOptionsBuilder -> {
-                                ShopUtil.generateOptions(localOptionsBuilder);
-                                localOptionsBuilder.prefix(SBAHypixelify.getConfigurator()
-                                        .getString("games-inventory.gui." + label.toLowerCase() + "-prefix"));
-                            })
-                            .call(categoryBuilder -> categoryBuilder.include(Include
-                                    .of(SBAHypixelify.getInstance().getDataFolder().toPath().resolve(
-                                             "games-inventory/" + label.toLowerCase() + ".yml").toAbsolutePath())))
-                            .click(this::onClick)
-                            .process()
-                            .getInventorySet();
+            final var siFormat = SimpleInventoriesCore.builder()
+                    .categoryOptions(localOptionsBuilder -> {
+                        ShopUtil.generateOptions(localOptionsBuilder);
+                        localOptionsBuilder.prefix(SBAHypixelify.getConfigurator()
+                                .getString("games-inventory.gui." + label.toLowerCase() + "-prefix"));
+                    })
+                    .call(categoryBuilder -> categoryBuilder.include(Include
+                            .of(SBAHypixelify.getInstance().getDataFolder().toPath().resolve(
+                                    "games-inventory/" + label.toLowerCase() + ".yml").toAbsolutePath())))
+                    /* bound to the mode, a reload replaces the set in inventoryMap while old ones stay open */
+                    .click(event -> onClick(event, val))
+                    .process()
+                    .getInventorySet();
 
-                    inventoryMap.put(val, siFormat);
-                    Logger.trace("Successfully loaded games inventory for: {}", label);
-                } catch (Throwable T) {
-                    Logger.trace("Could not initialize games inventory format for {}", label);
-                }
-            });
-        } catch (Exception ex) {
-            Debug.warn("Wrong GamesInventory configuration!", true);
+            inventoryMap.put(val, siFormat);
+            Logger.trace("Successfully loaded games inventory for: {}", label);
+        } catch (Throwable t) {
+            Debug.warn("Wrong GamesInventory configuration for " + label + "!", true);
             Debug.warn("Check validity of your YAML/Groovy!", true);
-            ex.printStackTrace();
+            t.printStackTrace();
         }
     }
 
@@ -80,13 +101,7 @@ public class GamesInventory implements Listener {
         }
     }
 
-    public void onClick(PostClickEvent event) {
-        final var mode = inventoryMap.keySet()
-                .stream()
-                .filter(key -> event.getFormat() == inventoryMap.get(key))
-                .findFirst()
-                .orElse(1);
-
+    public void onClick(PostClickEvent event, int mode) {
         final var item = event.getItem();
         final var stack = item.getStack();
         final var player = event.getPlayer().as(Player.class);
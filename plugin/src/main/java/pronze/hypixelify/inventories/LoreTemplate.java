@@ -0,0 +1,54 @@
+package pronze.hypixelify.inventories;
+
+import org.screamingsandals.bedwars.lib.ext.kyori.adventure.text.Component;
+import org.screamingsandals.bedwars.lib.utils.AdventureHelper;
+import pronze.hypixelify.scoreboard.LineTemplate;
+
+import java.util.List;
+
+/**
+ * Generated lore of shop items, split once into literals and the %price%, %resource% and
+ * %amount% slots. Lines without a slot are converted to components up front and shared.
+ */
+public class LoreTemplate {
+    public static final LoreTemplate EMPTY = new LoreTemplate(List.of());
+
+    private static final String[] TOKENS = {"%price%", "%resource%", "%amount%"};
+
+    private final LineTemplate[] lines;
+    /* the component of every static line, null for lines with a slot */
+    private final Component[] staticLines;
+    private final StringBuilder builder = new StringBuilder();
+
+    private LoreTemplate(List<String> source) {
+        lines = LineTemplate.compileAll(source, TOKENS).toArray(new LineTemplate[0]);
+        staticLines = new Component[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i].isStatic()) {
+                staticLines[i] = AdventureHelper.toComponent(lines[i].getSource());
+            }
+        }
+    }
+
+    public static LoreTemplate compile(List<String> lines) {
+        return lines.isEmpty() ? EMPTY : new LoreTemplate(lines);
+    }
+
+    public boolean isEmpty() {
+        return lines.length == 0;
+    }
+
+    /**
+     * Appends the rendered lines to the lore, only called from the main thread.
+     */
+    public void appendTo(List<Component> lore, String price, String resource, String amount) {
+        if (lines.length == 0) {
+            return;
+        }
+        final var values = new String[]{price, resource, amount};
+        for (int i = 0; i < lines.length; i++) {
+            final var line = staticLines[i];
+            lore.add(line != null ? line : AdventureHelper.toComponent(lines[i].render(builder, values)));
+        }
+    }
+}
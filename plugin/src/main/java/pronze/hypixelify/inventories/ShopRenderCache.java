@@ -0,0 +1,75 @@
+package pronze.hypixelify.inventories;
+
+import org.screamingsandals.bedwars.lib.material.Item;
+import pronze.hypixelify.game.GameStorage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rendered shop items of one game. An item renders the same for every member of a team as long
+ * as the team upgrades stay the same, so the result is kept per shop item, team and upgrade
+ * levels, and everything is dropped once an upgrade level of the game changes.
+ */
+class ShopRenderCache {
+    private final Map<Key, Item> rendered = new HashMap<>();
+    private GameStorage storage;
+    private int upgradeVersion;
+
+    /**
+     * Drops the cached items if they were rendered for another storage or older upgrade levels.
+     */
+    void validate(GameStorage storage) {
+        if (this.storage != storage || upgradeVersion != storage.getUpgradeVersion()) {
+            rendered.clear();
+            this.storage = storage;
+            this.upgradeVersion = storage.getUpgradeVersion();
+        }
+    }
+
+    Item get(Key key) {
+        final var item = rendered.get(key);
+        return item == null ? null : item.clone();
+    }
+
+    void put(Key key, Item item) {
+        rendered.put(key, item.clone());
+    }
+
+    static class Key {
+        /* the item definition of the loaded shop file, identifies the shop and the slot */
+        private final Object original;
+        private final String team;
+        private final int sharpness;
+        private final int protection;
+        private final int efficiency;
+        private final int hash;
+
+        Key(Object original, String team, int sharpness, int protection, int efficiency) {
+            this.original = original;
+            this.team = team;
+            this.sharpness = sharpness;
+            this.protection = protection;
+            this.efficiency = efficiency;
+            this.hash = Objects.hash(System.identityHashCode(original), team, sharpness, protection, efficiency);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final var key = (Key) o;
+            return original == key.original
+                    && sharpness == key.sharpness
+                    && protection == key.protection
+                    && efficiency == key.efficiency
+                    && Objects.equals(team, key.team);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
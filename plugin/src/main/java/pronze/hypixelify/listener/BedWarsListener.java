@@ -13,8 +13,9 @@ import org.screamingsandals.bedwars.api.events.*;
 import org.screamingsandals.bedwars.api.game.GameStatus;
 import pronze.hypixelify.SBAHypixelify;
 import pronze.hypixelify.game.Arena;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
 import pronze.hypixelify.utils.SBAUtil;
-import pronze.hypixelify.utils.ScoreboardUtil;
 import pronze.hypixelify.utils.ShopUtil;
 import pronze.lib.scoreboards.Scoreboard;
 import pronze.lib.scoreboards.ScoreboardManager;
@@ -45,6 +46,9 @@ public class BedWarsListener implements Listener {
 
         //Register listeners again
         if (plugin.equalsIgnoreCase(Main.getInstance().getName())) {
+            /* the BedWars config may have changed */
+            SBAHypixelify.getConfigurator().reloadSettings();
+            SBAHypixelify.getShop().reloadLoreTemplates();
             SBAHypixelify
                     .getInstance()
                     .getRegisteredListeners()
@@ -120,11 +124,11 @@ public class BedWarsListener implements Listener {
                                     ) {
 
                                         if (game.getConnectedPlayers().size() >= game.getMinPlayers()) {
-                                            String time = game.getFormattedTimeLeft();
+                                            final var secondsLeft = SBAHypixelify.getClockService()
+                                                    .getClock(game).getSecondsLeft();
 
-                                            if (!time.contains("0-1")) {
-                                                String[] units = time.split(":");
-                                                int seconds = Integer.parseInt(units[1]) + 1;
+                                            if (secondsLeft >= 0) {
+                                                int seconds = secondsLeft + 1;
                                                 if (buffer == seconds) return;
                                                 buffer = seconds;
                                                 if (seconds <= 10) {
@@ -151,9 +155,11 @@ public class BedWarsListener implements Listener {
         else if (game.getStatus() == GameStatus.RUNNING) {
             final var arena = SBAHypixelify.getArena(game.getName());
             if (arena != null) {
+                SBAHypixelify.getArenaRegistry().addPlayer(player, arena);
                 final var scoreboard = arena.getScoreboard();
                 if (scoreboard != null) {
                     scoreboard.createBoard(player);
+                    scoreboard.refreshTeamEntry(player);
                 }
             }
         }
@@ -168,8 +174,10 @@ public class BedWarsListener implements Listener {
         final var arena = SBAHypixelify.getArena(game.getName());
 
         if (arena != null) {
+            SBAHypixelify.getArenaRegistry().removePlayer(player, arena);
             final var scoreboard = arena.getScoreboard();
             if (scoreboard != null) {
+                scoreboard.removeTeamEntry(player);
                 scoreboard.remove(player);
             }
         }
@@ -178,7 +186,6 @@ public class BedWarsListener implements Listener {
         }
         runnableCache.remove(player.getUniqueId());
 
-        ScoreboardUtil.removePlayer(player);
         SBAUtil.removeScoreboardObjective(player);
         ScoreboardManager
                 .getInstance()
@@ -194,7 +201,30 @@ public class BedWarsListener implements Listener {
         final var game = e.getGame();
         final var arena = SBAHypixelify.getArena(game.getName());
         if (arena != null) {
+            final var start = Profiler.start();
             arena.onBedWarsPlayerKilled(e);
+            Profiler.record(game.getName(), Subsystem.LISTENER, start);
+
+            /* eliminated players are removed from their team after the event */
+            final var player = e.getPlayer();
+            Bukkit.getScheduler().runTask(SBAHypixelify.getInstance(), () -> {
+                final var scoreboard = arena.getScoreboard();
+                if (scoreboard != null && player.isOnline()) {
+                    scoreboard.refreshTeamEntry(player);
+                }
+            });
+        }
+    }
+
+    @EventHandler
+    public void onBedWarsTeamJoined(BedwarsPlayerJoinedTeamEvent e) {
+        final var arena = SBAHypixelify.getArena(e.getGame().getName());
+        if (arena == null) {
+            return;
+        }
+        arena.capturePlayer(e.getPlayer());
+        if (arena.getScoreboard() != null) {
+            arena.getScoreboard().refreshTeamEntry(e.getPlayer());
         }
     }
 
@@ -7,7 +7,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.BedwarsAPI;
 import org.screamingsandals.bedwars.api.events.BedwarsPlayerJoinedEvent;
 import org.screamingsandals.bedwars.api.events.BedwarsPlayerLeaveEvent;
@@ -16,6 +15,7 @@ import org.screamingsandals.bedwars.api.game.GameStatus;
 import org.screamingsandals.bedwars.game.TeamColor;
 import pronze.hypixelify.Configurator;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.scoreboard.LineTemplate;
 import pronze.hypixelify.utils.Logger;
 import pronze.hypixelify.utils.SBAUtil;
 import pronze.hypixelify.utils.ScoreboardUtil;
@@ -30,6 +30,14 @@ import static pronze.hypixelify.lib.lang.I.i18n;
 public class LobbyScoreboard implements Listener {
     private static final String date = new SimpleDateFormat(Configurator.date).format(new Date());
     private final Map<UUID, Scoreboard> scoreboardMap = new HashMap<>();
+    private final List<LineTemplate> templates;
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private final String[] values = new String[Placeholder.TOKENS.length];
+
+    public LobbyScoreboard() {
+        templates = LineTemplate.compileAll(SBAHypixelify.getConfigurator()
+                .getStringList("lobby_scoreboard.lines"), Placeholder.TOKENS);
+    }
 
     public static boolean isInLobby(Player player) {
         final var game = BedwarsAPI.getInstance().getGameOfPlayer(player);
@@ -92,25 +100,26 @@ public class LobbyScoreboard implements Listener {
     }
 
     private List<String> process(Player player, Game game, Scoreboard scoreboard) {
-        final var lines = new ArrayList<String>();
+        final var lines = new ArrayList<String>(templates.size());
         String state = i18n("waiting");
         String countdown = "null";
         int needplayers = game.getMinPlayers() - game.getConnectedPlayers().size();
         needplayers = Math.max(needplayers, 0);
         int s = Configurator.game_size.getOrDefault(game.getName(), 4);
+        final var settings = SBAHypixelify.getSettings();
         String mode;
         switch (s) {
             case 1:
-                mode = SBAHypixelify.getConfigurator().getString("lobby-scoreboard.solo-prefix", "Solo");
+                mode = settings.lobbySoloPrefix;
                 break;
             case 2:
-                mode = SBAHypixelify.getConfigurator().getString("lobby-scoreboard.doubles-prefix", "Doubles");
+                mode = settings.lobbyDoublesPrefix;
                 break;
             case 3:
-                mode = SBAHypixelify.getConfigurator().getString("lobby-scoreboard.triples-prefix", "Triples");
+                mode = settings.lobbyTriplesPrefix;
                 break;
             case 4:
-                mode = SBAHypixelify.getConfigurator().getString("lobby-scoreboard.squads-prefix", "Squads");
+                mode = settings.lobbySquadsPrefix;
                 break;
             default:
                 mode = s + "v" + s + "v" + s + "v" + s;
@@ -118,32 +127,29 @@ public class LobbyScoreboard implements Listener {
 
         if (game.countConnectedPlayers() >= game.getMinPlayers()
                 && game.getStatus() == GameStatus.WAITING) {
-            final var time = Main.getGame(game.getName()).getFormattedTimeLeft();
-            if (!time.contains("0-1")) {
-                final var units = time.split(":");
-                var seconds = Integer.parseInt(units[1]) + 1;
-                state = i18n("countdown").replace("{countdown}", String.valueOf(seconds));
+            final var secondsLeft = SBAHypixelify.getClockService().getClock(game).getSecondsLeft();
+            if (secondsLeft >= 0) {
+                state = i18n("countdown").replace("{countdown}", String.valueOf(secondsLeft + 1));
             }
         }
 
-        final var finalState = state;
-        final var finalNeedplayers = needplayers;
-
-        SBAHypixelify.getConfigurator()
-                .getStringList("lobby_scoreboard.lines").forEach(line -> {
-            line = line
-                    .replace("{date}", date).replace("{state}", finalState)
-                    .replace("{game}", game.getName())
-                    .replace("{players}", String.valueOf(game.getConnectedPlayers().size()))
-                    .replace("{maxplayers}", String.valueOf(game.getMaxPlayers()))
-                    .replace("{minplayers}", String.valueOf(game.getMinPlayers()))
-                    .replace("{needplayers}", String.valueOf(finalNeedplayers))
-                    .replace("{countdown}", countdown)
-                    .replace("{mode}", mode);
-            if (Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI"))
+        values[Placeholder.DATE.ordinal()] = date;
+        values[Placeholder.STATE.ordinal()] = state;
+        values[Placeholder.GAME.ordinal()] = game.getName();
+        values[Placeholder.PLAYERS.ordinal()] = String.valueOf(game.getConnectedPlayers().size());
+        values[Placeholder.MAX_PLAYERS.ordinal()] = String.valueOf(game.getMaxPlayers());
+        values[Placeholder.MIN_PLAYERS.ordinal()] = String.valueOf(game.getMinPlayers());
+        values[Placeholder.NEED_PLAYERS.ordinal()] = String.valueOf(needplayers);
+        values[Placeholder.COUNTDOWN.ordinal()] = countdown;
+        values[Placeholder.MODE.ordinal()] = mode;
+
+        final var placeholderAPI = Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI");
+        for (var template : templates) {
+            var line = template.render(lineBuilder, values);
+            if (placeholderAPI)
                 line = PlaceholderAPI.setPlaceholders(player, line);
             lines.add(line);
-        });
+        }
 
         final var holder = scoreboard.getHolder();
         game.getRunningTeams().forEach(team -> {
@@ -171,4 +177,26 @@ public class LobbyScoreboard implements Listener {
         });
         return lines;
     }
+
+    private enum Placeholder {
+        DATE("{date}"),
+        STATE("{state}"),
+        GAME("{game}"),
+        PLAYERS("{players}"),
+        MAX_PLAYERS("{maxplayers}"),
+        MIN_PLAYERS("{minplayers}"),
+        NEED_PLAYERS("{needplayers}"),
+        COUNTDOWN("{countdown}"),
+        MODE("{mode}");
+
+        private static final String[] TOKENS = Arrays.stream(values())
+                .map(placeholder -> placeholder.token)
+                .toArray(String[]::new);
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+    }
 }
@@ -16,11 +16,15 @@ import org.screamingsandals.bedwars.api.BedwarsAPI;
 import org.screamingsandals.bedwars.api.events.BedwarsPlayerJoinedEvent;
 import org.screamingsandals.bedwars.api.events.BedwarsPlayerLeaveEvent;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.game.PlayerWrapper;
+import pronze.hypixelify.scoreboard.LineTemplate;
 import pronze.hypixelify.utils.SBAUtil;
 import pronze.hypixelify.utils.ShopUtil;
 import pronze.lib.scoreboards.Scoreboard;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -28,8 +32,15 @@ public class MainLobbyBoard implements Listener {
     private final static String MAIN_LOBBY_OBJECTIVE = "bwa-mainlobby";
     private static Location location;
     private final Map<Player, Scoreboard> scoreboardMap = new HashMap<>();
+    private final List<String> lines;
+    private final Map<String, LineTemplate> templates = new HashMap<>();
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private final String[] values = new String[Placeholder.TOKENS.length];
 
     public MainLobbyBoard() {
+        lines = SBAHypixelify.getConfigurator().getStringList("main-lobby.lines");
+        lines.forEach(line -> templates.put(line, LineTemplate.compile(line, Placeholder.TOKENS)));
+
         final var optionalLocation = SBAUtil.readLocationFromConfig("main-lobby");
         if (optionalLocation.isPresent()) {
             location = optionalLocation.get();
@@ -55,17 +66,15 @@ public class MainLobbyBoard implements Listener {
 
     @EventHandler
     public void onChat(AsyncPlayerChatEvent e) {
-        if (!SBAHypixelify.getConfigurator().config
-                .getBoolean("main-lobby.custom-chat", true)) return;
+        final var settings = SBAHypixelify.getSettings();
+        if (!settings.mainLobbyCustomChat) return;
         final var player = e.getPlayer();
         final var db = SBAHypixelify.getWrapperService().getWrapper(player);
 
-        if (SBAHypixelify.getConfigurator().config.getBoolean("main-lobby.enabled", false)
-                && MainLobbyBoard.isInWorld(e.getPlayer().getLocation())) {
+        if (settings.mainLobby && MainLobbyBoard.isInWorld(e.getPlayer().getLocation())) {
 
-            if (SBAHypixelify.getConfigurator().getString("main-lobby.chat-format") != null) {
-                String format = SBAHypixelify.getConfigurator()
-                        .getString("main-lobby.chat-format")
+            if (settings.mainLobbyChatFormat != null) {
+                String format = settings.mainLobbyChatFormat
                         .replace("{level}", String.valueOf(db.getLevel()))
                         .replace("{name}", e.getPlayer().getName())
                         .replace("{message}", e.getMessage())
@@ -138,24 +147,46 @@ public class MainLobbyBoard implements Listener {
                 .title(SBAHypixelify.getConfigurator().getString("main-lobby.title", "&e&lBED WARS"))
                 .displayObjective(MAIN_LOBBY_OBJECTIVE)
                 .updateInterval(20L)
-                .lines(SBAHypixelify.getConfigurator().getStringList("main-lobby.lines"))
+                .lines(lines)
                 .placeholderHook(hook -> {
-                    final var bar = playerData.getCompletedBoxes();
-                    final var progress = playerData.getStringProgress();
-                    return hook.getLine()
-                            .replace("{kills}", String.valueOf(playerData.getKills()))
-                            .replace("{beddestroys}", String.valueOf(playerData.getBedDestroys()))
-                            .replace("{deaths}", String.valueOf(playerData.getDeaths()))
-                            .replace("{level}", "§7" + playerData.getLevel() + "✫")
-                            .replace("{progress}", progress)
-                            .replace("{bar}", bar)
-                            .replace("{wins}", String.valueOf(playerData.getWins()))
-                            .replace("{k/d}", String.valueOf(playerData.getKD()));
+                    final var template = templates.computeIfAbsent(hook.getLine(),
+                            line -> LineTemplate.compile(line, Placeholder.TOKENS));
+                    if (template.isStatic()) {
+                        return template.getSource();
+                    }
+                    for (var placeholder : Placeholder.values()) {
+                        final var slot = placeholder.ordinal();
+                        values[slot] = template.hasSlot(slot) ? resolve(placeholder, playerData) : null;
+                    }
+                    return template.render(lineBuilder, values);
                 }).build();
 
         scoreboardMap.put(player, scoreboard);
     }
 
+    private static String resolve(Placeholder placeholder, PlayerWrapper playerData) {
+        switch (placeholder) {
+            case KILLS:
+                return String.valueOf(playerData.getKills());
+            case BED_DESTROYS:
+                return String.valueOf(playerData.getBedDestroys());
+            case DEATHS:
+                return String.valueOf(playerData.getDeaths());
+            case LEVEL:
+                return "§7" + playerData.getLevel() + "✫";
+            case PROGRESS:
+                return playerData.getStringProgress();
+            case BAR:
+                return playerData.getCompletedBoxes();
+            case WINS:
+                return String.valueOf(playerData.getWins());
+            case KD:
+                return String.valueOf(playerData.getKD());
+            default:
+                return null;
+        }
+    }
+
     @EventHandler
     public void onBedWarsPlayerJoin(BedwarsPlayerJoinedEvent e) {
         final var player = e.getPlayer();
@@ -176,4 +207,25 @@ public class MainLobbyBoard implements Listener {
             Bukkit.getScheduler().runTaskLater(SBAHypixelify.getInstance(), () -> createBoard(player), 3L);
         }
     }
+
+    private enum Placeholder {
+        KILLS("{kills}"),
+        BED_DESTROYS("{beddestroys}"),
+        DEATHS("{deaths}"),
+        LEVEL("{level}"),
+        PROGRESS("{progress}"),
+        BAR("{bar}"),
+        WINS("{wins}"),
+        KD("{k/d}");
+
+        private static final String[] TOKENS = Arrays.stream(values())
+                .map(placeholder -> placeholder.token)
+                .toArray(String[]::new);
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+    }
 }
@@ -15,16 +15,17 @@ import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.inventory.InventoryType.SlotType;
 import org.bukkit.event.player.*;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.BedwarsAPI;
+import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.bedwars.api.game.GameStatus;
-import org.screamingsandals.bedwars.game.GamePlayer;
 import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.game.Arena;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
 import pronze.hypixelify.game.RotatingGenerators;
 import pronze.hypixelify.utils.Logger;
 import pronze.hypixelify.utils.SBAUtil;
-import pronze.hypixelify.utils.ScoreboardUtil;
 import pronze.hypixelify.utils.ShopUtil;
 import pronze.lib.scoreboards.Scoreboard;
 import pronze.lib.scoreboards.ScoreboardManager;
@@ -34,7 +35,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import static org.screamingsandals.bedwars.lib.nms.title.Title.sendTitle;
 import static pronze.hypixelify.lib.lang.I.i18n;
 
 public class PlayerListener implements Listener {
@@ -47,15 +47,15 @@ public class PlayerListener implements Listener {
 
 
     public PlayerListener() {
-        final var config = SBAHypixelify.getConfigurator().config;
+        final var settings = SBAHypixelify.getSettings();
 
-        blockItemDrops = config.getBoolean("block-item-drops", true);
-        giveKillerResources = config.getBoolean("give-killer-resources", true);
-        respawnCooldown = config.getBoolean("respawn-cooldown.enabled", true);
-        disableArmorInventoryMovement = config.getBoolean("disable-armor-inventory-movement", true);
-        disableArmorDamage = config.getBoolean("disable-sword-armor-damage", true);
-        permanentItems = config.getBoolean("permanent-items", true);
-        blockItemOnChest = config.getBoolean("block-players-putting-certain-items-onto-chest", true);
+        blockItemDrops = settings.blockItemDrops;
+        giveKillerResources = settings.giveKillerResources;
+        respawnCooldown = settings.respawnCooldown;
+        disableArmorInventoryMovement = settings.disableArmorInventoryMovement;
+        disableArmorDamage = settings.disableSwordArmorDamage;
+        permanentItems = settings.permanentItems;
+        blockItemOnChest = settings.blockItemsOnChest;
 
         allowed = SBAUtil.parseMaterialFromConfig("allowed-item-drops");
         generatorDropItems = SBAUtil.parseMaterialFromConfig("running-generator-drops");
@@ -65,13 +65,23 @@ public class PlayerListener implements Listener {
     public void onPlayerDeath(PlayerDeathEvent e) {
         Logger.trace("Player death event called");
         final var player = e.getEntity();
-        final var game = BedwarsAPI.getInstance().getGameOfPlayer(player);
-        if (game == null || game.getStatus() != GameStatus.RUNNING) return;
-        final var arena = SBAHypixelify.getArena(game.getName());
+        final var arena = SBAHypixelify.getArena(player);
         if (arena == null) {
             Logger.trace("Arena is null");
             return;
         }
+        final var game = arena.getGame();
+        if (game.getStatus() != GameStatus.RUNNING) return;
+
+        final var start = Profiler.start();
+        try {
+            handleDeath(e, player, game, arena);
+        } finally {
+            Profiler.record(game.getName(), Subsystem.LISTENER, start);
+        }
+    }
+
+    private void handleDeath(PlayerDeathEvent e, Player player, Game game, Arena arena) {
 
         final var itemArr = new ArrayList<ItemStack>();
         if (permanentItems) {
@@ -130,47 +140,7 @@ public class PlayerListener implements Listener {
         if (respawnCooldown && victimTeam.isAlive() && game.isPlayerInAnyTeam(player) &&
                 game.getTeamOfPlayer(player).isTargetBlockExists()) {
 
-            new BukkitRunnable() {
-                final GamePlayer gamePlayer = gVictim;
-                final Player player = gamePlayer.player;
-                int livingTime = SBAHypixelify.getConfigurator().config.getInt("respawn-cooldown.time", 5);
-
-                byte buffer = 2;
-
-                @Override
-                public void run() {
-                    if (!BedwarsAPI.getInstance().isPlayerPlayingAnyGame(player)) {
-                        this.cancel();
-                        return;
-                    }
-
-                    //send custom title because we disabled Bedwars from showing any title
-                    if (livingTime > 0) {
-                        sendTitle(player, i18n("respawn-title"),
-                                i18n("respawn-subtitle")
-                                        .replace("%time%", String.valueOf(livingTime)),
-                                0, 20, 0);
-
-                        player.sendMessage(i18n("respawn-message")
-                                .replace("%time%", String.valueOf(livingTime)));
-                        livingTime--;
-                    }
-
-
-                    if (livingTime == 0) {
-                        if (gVictim.isSpectator && buffer > 0) {
-                            buffer--;
-                        } else {
-                            player.sendMessage(i18n("respawned-message"));
-                            sendTitle(player, i18n("respawned-title"), "",
-                                    5, 40, 5);
-                            ShopUtil.giveItemToPlayer(itemArr, player,
-                                    Main.getGame(game.getName()).getPlayerTeam(gamePlayer).getColor());
-                            this.cancel();
-                        }
-                    }
-                }
-            }.runTaskTimer(SBAHypixelify.getInstance(), 0L, 20L);
+            arena.getRespawnCountdowns().start(gVictim, itemArr, SBAHypixelify.getSettings().respawnCooldownTime);
         }
     }
 
@@ -185,6 +155,17 @@ public class PlayerListener implements Listener {
     }
 
 
+    @EventHandler
+    public void onPlayerRespawn(PlayerRespawnEvent e) {
+        RotatingGenerators.forgetViewer(e.getPlayer());
+    }
+
+    @EventHandler
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent e) {
+        RotatingGenerators.forgetViewer(e.getPlayer());
+    }
+
+
     @EventHandler(priority = EventPriority.NORMAL)
     public void onClick(InventoryClickEvent event) {
         if (event.getCurrentItem() == null)
@@ -261,7 +242,6 @@ public class PlayerListener implements Listener {
         final var scoreboardOptional = ScoreboardManager.getInstance().fromCache(uuid);
         scoreboardOptional.ifPresent(Scoreboard::destroy);
         SBAHypixelify.getWrapperService().unregister(player);
-        ScoreboardUtil.removePlayer(player);
     }
 
 
@@ -0,0 +1,33 @@
+package pronze.hypixelify.listener;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.profiler.Profiler;
+import pronze.hypixelify.profiler.Subsystem;
+
+public class TrapListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent e) {
+        final var from = e.getFrom();
+        final var to = e.getTo();
+
+        /* traps only care about players changing blocks */
+        if (to == null || (from.getBlockX() == to.getBlockX()
+                && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ())) {
+            return;
+        }
+
+        final var player = e.getPlayer();
+        final var arena = SBAHypixelify.getArena(player);
+        if (arena != null) {
+            final var start = Profiler.start();
+            arena.onPlayerMove(player, to);
+            Profiler.record(arena.getGame().getName(), Subsystem.LISTENER, start);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * PacketWrapper - ProtocolLib wrappers for Minecraft packets
+ * Copyright (C) dmulloy2 <http://dmulloy2.net>
+ * Copyright (C) Kristian S. Strangeland
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pronze.hypixelify.packets;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.PacketContainer;
+import com.comphenix.protocol.wrappers.EnumWrappers.ItemSlot;
+import com.comphenix.protocol.wrappers.Pair;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+
+public class WrapperPlayServerEntityEquipment extends AbstractPacket {
+    public static final PacketType TYPE =
+            PacketType.Play.Server.ENTITY_EQUIPMENT;
+
+    public WrapperPlayServerEntityEquipment() {
+        super(new PacketContainer(TYPE), TYPE);
+        handle.getModifier().writeDefaults();
+    }
+
+    public WrapperPlayServerEntityEquipment(PacketContainer packet) {
+        super(packet, TYPE);
+    }
+
+    /**
+     * Retrieve Entity ID.
+     *
+     * @return The current Entity ID
+     */
+    public int getEntityID() {
+        return handle.getIntegers().read(0);
+    }
+
+    /**
+     * Set Entity ID.
+     *
+     * @param value - new value.
+     */
+    public void setEntityID(int value) {
+        handle.getIntegers().write(0, value);
+    }
+
+    /**
+     * Retrieve the equipment of the entity, 1.16+ sends every slot in one packet.
+     *
+     * @return The current slot and item pairs
+     */
+    public List<Pair<ItemSlot, ItemStack>> getSlotStackPairs() {
+        return handle.getSlotStackPairLists().read(0);
+    }
+
+    /**
+     * Set the equipment of the entity.
+     *
+     * @param value - new slot and item pairs.
+     */
+    public void setSlotStackPairs(List<Pair<ItemSlot, ItemStack>> value) {
+        handle.getSlotStackPairLists().write(0, value);
+    }
+}
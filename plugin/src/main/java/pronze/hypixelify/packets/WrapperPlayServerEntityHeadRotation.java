@@ -0,0 +1,74 @@
+/**
+ * PacketWrapper - ProtocolLib wrappers for Minecraft packets
+ * Copyright (C) dmulloy2 <http://dmulloy2.net>
+ * Copyright (C) Kristian S. Strangeland
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pronze.hypixelify.packets;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.PacketContainer;
+
+public class WrapperPlayServerEntityHeadRotation extends AbstractPacket {
+    public static final PacketType TYPE =
+            PacketType.Play.Server.ENTITY_HEAD_ROTATION;
+
+    public WrapperPlayServerEntityHeadRotation() {
+        super(new PacketContainer(TYPE), TYPE);
+        handle.getModifier().writeDefaults();
+    }
+
+    public WrapperPlayServerEntityHeadRotation(PacketContainer packet) {
+        super(packet, TYPE);
+    }
+
+    /**
+     * Retrieve Entity ID.
+     *
+     * @return The current Entity ID
+     */
+    public int getEntityID() {
+        return handle.getIntegers().read(0);
+    }
+
+    /**
+     * Set Entity ID.
+     *
+     * @param value - new value.
+     */
+    public void setEntityID(int value) {
+        handle.getIntegers().write(0, value);
+    }
+
+    /**
+     * Retrieve Head Yaw.
+     * <p>
+     * Notes: head yaw in steps of 2p/256
+     *
+     * @return The current Head Yaw
+     */
+    public byte getHeadYaw() {
+        return handle.getBytes().read(0);
+    }
+
+    /**
+     * Set Head Yaw.
+     *
+     * @param value - new value.
+     */
+    public void setHeadYaw(byte value) {
+        handle.getBytes().write(0, value);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * PacketWrapper - ProtocolLib wrappers for Minecraft packets
+ * Copyright (C) dmulloy2 <http://dmulloy2.net>
+ * Copyright (C) Kristian S. Strangeland
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package pronze.hypixelify.packets;
+
+import com.comphenix.protocol.PacketType;
+import com.comphenix.protocol.events.PacketContainer;
+
+import java.util.UUID;
+
+public class WrapperPlayServerSpawnEntityLiving extends AbstractPacket {
+    public static final PacketType TYPE =
+            PacketType.Play.Server.SPAWN_ENTITY_LIVING;
+
+    public WrapperPlayServerSpawnEntityLiving() {
+        super(new PacketContainer(TYPE), TYPE);
+        handle.getModifier().writeDefaults();
+    }
+
+    public WrapperPlayServerSpawnEntityLiving(PacketContainer packet) {
+        super(packet, TYPE);
+    }
+
+    /**
+     * Retrieve Entity ID.
+     *
+     * @return The current Entity ID
+     */
+    public int getEntityID() {
+        return handle.getIntegers().read(0);
+    }
+
+    /**
+     * Set Entity ID.
+     *
+     * @param value - new value.
+     */
+    public void setEntityID(int value) {
+        handle.getIntegers().write(0, value);
+    }
+
+    public UUID getUniqueId() {
+        return handle.getUUIDs().read(0);
+    }
+
+    public void setUniqueId(UUID value) {
+        handle.getUUIDs().write(0, value);
+    }
+
+    /**
+     * Retrieve the network id of the entity type.
+     *
+     * @return The current type id
+     */
+    public int getType() {
+        return handle.getIntegers().read(1);
+    }
+
+    /**
+     * Set the network id of the entity type.
+     * <p>
+     * Notes: this is the registry id of the running version, not the legacy type id.
+     *
+     * @param value - new value.
+     */
+    public void setType(int value) {
+        handle.getIntegers().write(1, value);
+    }
+
+    public double getX() {
+        return handle.getDoubles().read(0);
+    }
+
+    public void setX(double value) {
+        handle.getDoubles().write(0, value);
+    }
+
+    public double getY() {
+        return handle.getDoubles().read(1);
+    }
+
+    public void setY(double value) {
+        handle.getDoubles().write(1, value);
+    }
+
+    public double getZ() {
+        return handle.getDoubles().read(2);
+    }
+
+    public void setZ(double value) {
+        handle.getDoubles().write(2, value);
+    }
+
+    /**
+     * Retrieve the yaw of the entity in degrees.
+     *
+     * @return The current Yaw
+     */
+    public float getYaw() {
+        return (handle.getBytes().read(0) * 360.F) / 256.0F;
+    }
+
+    /**
+     * Set the yaw of the entity in degrees.
+     *
+     * @param value - new yaw.
+     */
+    public void setYaw(float value) {
+        handle.getBytes().write(0, (byte) (value * 256.0F / 360.0F));
+    }
+
+    public float getHeadYaw() {
+        return (handle.getBytes().read(2) * 360.F) / 256.0F;
+    }
+
+    public void setHeadYaw(float value) {
+        handle.getBytes().write(2, (byte) (value * 256.0F / 360.0F));
+    }
+}
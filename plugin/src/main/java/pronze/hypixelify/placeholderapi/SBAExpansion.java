@@ -6,6 +6,8 @@ import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Objects;
+
 public class SBAExpansion extends PlaceholderExpansion {
     @Override
     public @NotNull String getIdentifier() {
@@ -37,6 +39,40 @@ public class SBAExpansion extends PlaceholderExpansion {
             }
         }
 
+        if (identifier.startsWith("game_top_")) {
+            return topKiller(player, identifier);
+        }
+
         return super.onPlaceholderRequest(player, identifier);
     }
+
+    /**
+     * Resolves game_top_[rank]_name and game_top_[rank]_kills against the game of the player.
+     */
+    private String topKiller(Player player, String identifier) {
+        final var separator = identifier.indexOf('_', 9);
+        if (separator < 0) {
+            return null;
+        }
+        final int rank;
+        try {
+            rank = Integer.parseInt(identifier.substring(9, separator)) - 1;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        final var arena = SBAHypixelify.getArena(player);
+        if (arena == null || rank < 0) {
+            return "";
+        }
+        final var leaderboard = arena.getKillLeaderboard();
+        switch (identifier.substring(separator + 1).toLowerCase()) {
+            case "name":
+                return Objects.requireNonNullElse(leaderboard.getName(rank), "none");
+            case "kills":
+                return Integer.toString(leaderboard.getKills(rank));
+            default:
+                return null;
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package pronze.hypixelify.profiler;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the time spent in each subsystem per arena. Work that does not belong
+ * to a single arena is recorded under {@link #GLOBAL}.
+ */
+public class Profiler {
+    public static final String GLOBAL = "*global*";
+
+    private static final Map<String, Map<Subsystem, TickHistogram>> histograms = new LinkedHashMap<>();
+    private static boolean enabled = true;
+
+    public static void setEnabled(boolean enabled) {
+        Profiler.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start timestamp to pass to {@link #record(String, Subsystem, long)}
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void record(String arena, Subsystem subsystem, long start) {
+        if (!enabled || start == 0L) {
+            return;
+        }
+        recordNanos(arena, subsystem, System.nanoTime() - start);
+    }
+
+    public static void recordNanos(String arena, Subsystem subsystem, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        histograms.computeIfAbsent(arena == null ? GLOBAL : arena, key -> new EnumMap<>(Subsystem.class))
+                .computeIfAbsent(subsystem, key -> new TickHistogram())
+                .record(nanos);
+    }
+
+    public static Map<String, Map<Subsystem, TickHistogram>> getHistograms() {
+        return histograms;
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+}
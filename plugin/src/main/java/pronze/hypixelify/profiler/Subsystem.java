@@ -0,0 +1,22 @@
+package pronze.hypixelify.profiler;
+
+public enum Subsystem {
+    GAME_TASK("game-task"),
+    HEALTH_OBJECTIVE("health-objective"),
+    SCOREBOARD_RENDER("scoreboard-render"),
+    RESPAWN("respawn"),
+    GENERATOR_ROTATION("generator-rotation"),
+    SHOP_RENDER("shop-render"),
+    SHOP_PURCHASE("shop-purchase"),
+    LISTENER("listener");
+
+    private final String displayName;
+
+    Subsystem(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
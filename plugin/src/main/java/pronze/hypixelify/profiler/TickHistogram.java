@@ -0,0 +1,87 @@
+package pronze.hypixelify.profiler;
+
+import java.util.Arrays;
+
+/**
+ * Fixed size log-linear histogram of nanosecond durations, in the spirit of HdrHistogram:
+ * every power of two is split into 8 buckets, so any recorded value is reported within 12.5%.
+ */
+public class TickHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /* values from 2^42ns (over an hour) share the last bucket */
+    private static final int MAX_MAGNITUDE = 42;
+
+    private final long[] counts = new long[(MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS];
+    private long total;
+    private long max;
+    private long startedAt = System.nanoTime();
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[indexOf(nanos)]++;
+        total++;
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getCallsPerSecond() {
+        final var elapsed = System.nanoTime() - startedAt;
+        return elapsed <= 0 ? 0 : total * 1_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * @param percentile value between 0 and 100
+     * @return the highest value equivalent to the recorded value at the percentile
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        final var target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+        startedAt = System.nanoTime();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final var magnitude = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+        final var subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final var magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final var subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS | subBucket) + 1 << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+}
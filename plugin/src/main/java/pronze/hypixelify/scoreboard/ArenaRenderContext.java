@@ -0,0 +1,176 @@
+package pronze.hypixelify.scoreboard;
+
+import org.bukkit.ChatColor;
+import org.screamingsandals.bedwars.api.RunningTeam;
+import org.screamingsandals.bedwars.api.Team;
+import org.screamingsandals.bedwars.api.game.Game;
+import org.screamingsandals.bedwars.game.TeamColor;
+import pronze.hypixelify.SBAHypixelify;
+import pronze.hypixelify.game.Arena;
+import pronze.hypixelify.service.GameClock;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Game wide scoreboard values of an arena, computed at most once per tick and
+ * shared by every board of that arena. Only viewer specific values are left
+ * to be resolved per player.
+ */
+public class ArenaRenderContext {
+    private static final long STALE_AFTER_MILLIS = 50L;
+
+    private final Arena arena;
+    private final Game game;
+    private final GameClock clock;
+    private final List<Team> teams;
+    private final Map<String, Integer> teamIndex = new HashMap<>();
+    private final String you;
+
+    /* per team status line, once without and once with the {you} marker */
+    private final String[] teamStatus;
+    private final String[] teamStatusYou;
+    private final String[] teamBedStatus;
+
+    private long computedAt = -1L;
+    private long revision;
+    private String formattedTime;
+    private String tier;
+
+    public ArenaRenderContext(Arena arena) {
+        this.arena = arena;
+        this.game = arena.getGame();
+        this.clock = SBAHypixelify.getClockService().getClock(game);
+        this.teams = List.copyOf(game.getAvailableTeams());
+        for (int i = 0; i < teams.size(); i++) {
+            teamIndex.put(teams.get(i).getName().toLowerCase(), i);
+        }
+        teamStatus = new String[teams.size()];
+        teamStatusYou = new String[teams.size()];
+        teamBedStatus = new String[teams.size()];
+        you = SBAHypixelify.getConfigurator().getString("scoreboard.you", "§7YOU");
+    }
+
+    /**
+     * Recomputes the snapshot if it was computed before the current tick.
+     */
+    public void refresh() {
+        final var now = System.currentTimeMillis();
+        if (computedAt >= 0 && now - computedAt < STALE_AFTER_MILLIS) {
+            return;
+        }
+        computedAt = now;
+
+        var changed = false;
+        final var time = clock.getFormattedTime();
+        if (!time.equals(formattedTime)) {
+            formattedTime = time;
+            changed = true;
+        }
+
+        final var gameTask = arena.getGameTask();
+        final var currentTier = gameTask == null ? null : gameTask.getTier().replace("-", "")
+                + " in §a" + gameTask.getFormattedTimeLeft();
+        if (!Objects.equals(currentTier, tier)) {
+            tier = currentTier;
+            changed = true;
+        }
+
+        final var runningTeams = new HashMap<String, RunningTeam>();
+        game.getRunningTeams().forEach(team -> runningTeams.put(team.getName().toLowerCase(), team));
+
+        for (int i = 0; i < teams.size(); i++) {
+            final var team = teams.get(i);
+            final var runningTeam = runningTeams.get(team.getName().toLowerCase());
+            final var format = runningTeam != null ? getTeamStatusFormat(runningTeam) : getTeamStatusFormat(team);
+            final var status = format.replace("{you}", "");
+            if (!status.equals(teamStatus[i])) {
+                teamStatus[i] = status;
+                teamStatusYou[i] = format.replace("{you}", you);
+                changed = true;
+            }
+            final var bedStatus = runningTeam != null ? getTeamBedStatus(runningTeam) : null;
+            if (!Objects.equals(bedStatus, teamBedStatus[i])) {
+                teamBedStatus[i] = bedStatus;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            revision++;
+        }
+    }
+
+    /**
+     * @return a counter that changes every time the content of the snapshot changes
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    public int getTeamCount() {
+        return teams.size();
+    }
+
+    /**
+     * @return index of the team in this context, -1 if the team is unknown
+     */
+    public int indexOf(Team team) {
+        if (team == null) {
+            return -1;
+        }
+        return teamIndex.getOrDefault(team.getName().toLowerCase(), -1);
+    }
+
+    public String getTeamStatus(int index, boolean isViewerTeam) {
+        return isViewerTeam ? teamStatusYou[index] : teamStatus[index];
+    }
+
+    public String getTeamBedStatus(int index) {
+        return index < 0 ? null : teamBedStatus[index];
+    }
+
+    public String getFormattedTime() {
+        return formattedTime;
+    }
+
+    public String getTier() {
+        return tier;
+    }
+
+    private static String getTeamBedStatus(RunningTeam team) {
+        return team.isDead() ? "§c\u2717" :
+                "§a\u2713";
+    }
+
+    private static String getTeamStatusFormat(RunningTeam team) {
+        String alive = "{color} {team} §a\u2713 §8{you}";
+        String destroyed = "{color} {team} §a§f{players}§8 {you}";
+
+        String status = team.isTargetBlockExists() ? alive : destroyed;
+
+        if (team.isDead() && team.getConnectedPlayers().size() <= 0)
+            status = "{color} {team} §c\u2717 {you}";
+
+        String formattedTeam = TeamColor.valueOf(team.getColor().name()).chatColor.toString()
+                + team.getName().charAt(0);
+        return status.replace("{bed_status}", getTeamBedStatus(team))
+                .replace("{color}", formattedTeam)
+                .replace("{team}", ChatColor.WHITE.toString() + team.getName() + ":")
+                .replace("{players}", ChatColor.GREEN.toString() + team.getConnectedPlayers().size());
+    }
+
+    private static String getTeamStatusFormat(Team team) {
+        final var destroyed = "{color} {team} §c\u2718 {you}";
+        final var formattedTeam = TeamColor
+                .valueOf(team.getColor().name()).chatColor.toString()
+                + team.getName().charAt(0);
+
+        return destroyed.replace("{bed_status}", "§c\u2718")
+                .replace("{color}", formattedTeam)
+                .replace("{team}", ChatColor.WHITE.toString()
+                        + team.getName() + ":");
+    }
+}
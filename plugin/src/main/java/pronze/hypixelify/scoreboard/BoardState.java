@@ -0,0 +1,68 @@
+package pronze.hypixelify.scoreboard;
+
+import java.util.List;
+
+/**
+ * Remembers the inputs and the lines last sent to a single board, so an update
+ * can be skipped when nothing it depends on has changed.
+ */
+class BoardState {
+    private long contextRevision = -1L;
+    private int teamIndex = Integer.MIN_VALUE;
+    private int kills;
+    private int deaths;
+    private int bedDestroys;
+    private int totalKills;
+    private List<String> lines = List.of();
+
+    /**
+     * Stores the given inputs.
+     *
+     * @return true if any of the inputs differ from the previous update
+     */
+    boolean updateInputs(long contextRevision, int teamIndex, int kills, int deaths, int bedDestroys, int totalKills) {
+        if (this.contextRevision == contextRevision
+                && this.teamIndex == teamIndex
+                && this.kills == kills
+                && this.deaths == deaths
+                && this.bedDestroys == bedDestroys
+                && this.totalKills == totalKills) {
+            return false;
+        }
+        this.contextRevision = contextRevision;
+        this.teamIndex = teamIndex;
+        this.kills = kills;
+        this.deaths = deaths;
+        this.bedDestroys = bedDestroys;
+        this.totalKills = totalKills;
+        return true;
+    }
+
+    /**
+     * Replaces the remembered lines.
+     *
+     * @return the amount of lines that differ from the previously sent ones
+     */
+    int updateLines(List<String> newLines) {
+        int changed = Math.abs(newLines.size() - lines.size());
+        final var common = Math.min(newLines.size(), lines.size());
+        for (int i = 0; i < common; i++) {
+            if (!newLines.get(i).equals(lines.get(i))) {
+                changed++;
+            }
+        }
+        lines = newLines;
+        return changed;
+    }
+
+    int getLineCount() {
+        return lines.size();
+    }
+
+    /**
+     * Forgets the remembered inputs so the next update is always rendered.
+     */
+    void invalidate() {
+        contextRevision = -1L;
+    }
+}
@@ -0,0 +1,47 @@
+package pronze.hypixelify.scoreboard;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of scoreboard lines pushed to players versus lines that were
+ * skipped because they did not change.
+ */
+public class BoardUpdateStats {
+    private static final LongAdder linesSent = new LongAdder();
+    private static final LongAdder linesSkipped = new LongAdder();
+    private static final LongAdder updatesSkipped = new LongAdder();
+
+    static void sent(int lines) {
+        linesSent.add(lines);
+    }
+
+    static void skipped(int lines) {
+        linesSkipped.add(lines);
+    }
+
+    static void skippedUpdate(int lines) {
+        updatesSkipped.increment();
+        linesSkipped.add(lines);
+    }
+
+    public static long getLinesSent() {
+        return linesSent.sum();
+    }
+
+    public static long getLinesSkipped() {
+        return linesSkipped.sum();
+    }
+
+    /**
+     * @return the amount of board updates that were skipped without rendering
+     */
+    public static long getUpdatesSkipped() {
+        return updatesSkipped.sum();
+    }
+
+    public static void reset() {
+        linesSent.reset();
+        linesSkipped.reset();
+        updatesSkipped.reset();
+    }
+}
@@ -0,0 +1,88 @@
+package pronze.hypixelify.scoreboard;
+
+import com.comphenix.protocol.events.PacketContainer;
+import org.bukkit.entity.Player;
+import org.screamingsandals.bedwars.api.game.Game;
+import pronze.hypixelify.game.HealthStore;
+import pronze.hypixelify.utils.ScoreboardUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Health scores of the tab and name tag objectives of an arena. Health is read
+ * once per tick for every player, and only the changed scores are sent to the
+ * viewers as one batch of prebuilt packets.
+ */
+public class HealthObjectiveBatch {
+    private final Game game;
+    private final HealthStore store;
+    private final boolean tagHealth;
+    private final boolean tabHealth;
+    private final List<PacketContainer> batch = new ArrayList<>();
+    private int[] playerSlots = new int[0];
+
+    public HealthObjectiveBatch(Game game, HealthStore store, boolean tagHealth, boolean tabHealth) {
+        this.game = game;
+        this.store = store;
+        this.tagHealth = tagHealth;
+        this.tabHealth = tabHealth;
+    }
+
+    public boolean isEnabled() {
+        return tagHealth || tabHealth;
+    }
+
+    public void tick() {
+        if (!isEnabled()) {
+            return;
+        }
+        batch.clear();
+        final var players = game.getConnectedPlayers();
+        if (playerSlots.length < players.size()) {
+            playerSlots = new int[players.size()];
+        }
+        for (int i = 0; i < players.size(); i++) {
+            final var player = players.get(i);
+            final var slot = store.slotOf(player);
+            playerSlots[i] = slot;
+            final var value = ScoreboardUtil.toHealthScore(player.getHealth());
+            if (store.update(slot, value)) {
+                addScores(batch, player.getName(), value);
+            }
+        }
+
+        for (int i = 0; i < players.size(); i++) {
+            final var viewer = players.get(i);
+            if (store.markSynced(playerSlots[i])) {
+                ScoreboardUtil.sendPackets(viewer, fullSync(players));
+            } else if (!batch.isEmpty()) {
+                ScoreboardUtil.sendPackets(viewer, batch);
+            }
+        }
+    }
+
+    public void remove(Player player) {
+        store.free(player.getUniqueId());
+    }
+
+    private List<PacketContainer> fullSync(List<Player> players) {
+        final var packets = new ArrayList<PacketContainer>(players.size() * 2);
+        for (int i = 0; i < players.size(); i++) {
+            final var slot = playerSlots[i];
+            if (store.hasHealth(slot)) {
+                addScores(packets, players.get(i).getName(), store.getHealth(slot));
+            }
+        }
+        return packets;
+    }
+
+    private void addScores(List<PacketContainer> packets, String name, int value) {
+        if (tagHealth) {
+            packets.add(ScoreboardUtil.createScorePacket(ScoreboardUtil.TAG_OBJECTIVE_NAME, name, value));
+        }
+        if (tabHealth) {
+            packets.add(ScoreboardUtil.createScorePacket(ScoreboardUtil.TAB_OBJECTIVE_NAME, name, value));
+        }
+    }
+}
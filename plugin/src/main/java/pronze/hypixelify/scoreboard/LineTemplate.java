@@ -0,0 +1,141 @@
+package pronze.hypixelify.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A configured line parsed once into literal segments and placeholder slots.
+ * Rendering only appends the literals and the resolved slot values, so no
+ * intermediate strings are created per placeholder.
+ */
+public class LineTemplate {
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final String source;
+    /* literals[i] precedes slots[i], the last literal trails the line */
+    private final String[] literals;
+    private final int[] slots;
+
+    private LineTemplate(String source, String[] literals, int[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * @param line   the raw line to compile
+     * @param tokens the placeholder tokens, the index of a token is its slot id
+     * @return the compiled template
+     */
+    public static LineTemplate compile(String line, String... tokens) {
+        if (line == null) {
+            line = "";
+        }
+        final var literals = new ArrayList<String>();
+        final var slots = new ArrayList<Integer>();
+
+        int cursor = 0;
+        int literalStart = 0;
+        while (cursor < line.length()) {
+            final var slot = matchToken(line, cursor, tokens);
+            if (slot < 0) {
+                cursor++;
+                continue;
+            }
+            literals.add(line.substring(literalStart, cursor));
+            slots.add(slot);
+            cursor += tokens[slot].length();
+            literalStart = cursor;
+        }
+        literals.add(line.substring(literalStart));
+
+        final var slotArray = slots.isEmpty() ? NO_SLOTS : slots.stream().mapToInt(Integer::intValue).toArray();
+        return new LineTemplate(line, literals.toArray(new String[0]), slotArray);
+    }
+
+    /**
+     * Compiles every line, null lines are skipped like the configured lines always were.
+     */
+    public static List<LineTemplate> compileAll(List<String> lines, String... tokens) {
+        final var templates = new ArrayList<LineTemplate>(lines.size());
+        lines.stream()
+                .filter(Objects::nonNull)
+                .forEach(line -> templates.add(compile(line, tokens)));
+        return templates;
+    }
+
+    private static int matchToken(String line, int offset, String[] tokens) {
+        final var c = line.charAt(offset);
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].charAt(0) == c && line.startsWith(tokens[i], offset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasSlot(int slot) {
+        for (var s : slots) {
+            if (s == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if every slot of this line is the given slot
+     */
+    public boolean usesOnly(int slot) {
+        for (var s : slots) {
+            if (s != slot) {
+                return false;
+            }
+        }
+        return slots.length > 0;
+    }
+
+    public boolean isStatic() {
+        return slots.length == 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Appends the rendered line to the builder.
+     *
+     * @param builder the builder to append to
+     * @param values  resolved values indexed by slot id, null values render as empty
+     */
+    public void appendTo(StringBuilder builder, String[] values) {
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            final var value = values[slots[i]];
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[slots.length]);
+    }
+
+    /**
+     * Renders the line using a reusable builder, the builder is cleared before use.
+     */
+    public String render(StringBuilder builder, String[] values) {
+        if (isStatic()) {
+            return source;
+        }
+        builder.setLength(0);
+        appendTo(builder, values);
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "LineTemplate{" + Arrays.toString(literals) + ", " + Arrays.toString(slots) + "}";
+    }
+}
@@ -1,19 +1,15 @@
 package pronze.hypixelify.scoreboard;
 
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.RunningTeam;
-import org.screamingsandals.bedwars.api.Team;
 import org.screamingsandals.bedwars.api.game.Game;
-import org.screamingsandals.bedwars.api.game.GameStatus;
 import org.screamingsandals.bedwars.game.TeamColor;
 import pronze.hypixelify.Configurator;
 import pronze.hypixelify.SBAHypixelify;
 import pronze.hypixelify.game.Arena;
+import pronze.hypixelify.game.PlayerData;
 import pronze.hypixelify.packets.WrapperPlayServerScoreboardDisplayObjective;
 import pronze.hypixelify.packets.WrapperPlayServerScoreboardObjective;
 import pronze.hypixelify.utils.Logger;
@@ -26,35 +22,45 @@ import java.util.*;
 
 public class ScoreBoard {
 
+    /* shared by every viewer without data, only ever read */
+    private final static PlayerData NO_DATA = new PlayerData();
     private final static String date = new SimpleDateFormat(Configurator.date).format(new Date());
     private final Game game;
     private final Arena arena;
     private final Map<UUID, Scoreboard> scoreboardMap = new HashMap<>();
-    private final List<String> scoreboard_lines = new ArrayList<>();
-
-    protected BukkitTask updateTask;
+    private final Map<UUID, BoardState> boardStates = new HashMap<>();
+    /* team each player is listed under on the boards, kept in sync by events */
+    private final Map<UUID, String> entryTeams = new HashMap<>();
+    private final List<LineTemplate> templates;
+    private final ArenaRenderContext renderContext;
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private final String[] values = new String[Placeholder.TOKENS.length];
+    /* team status lines that only depend on the render context, shared between viewers */
+    private final String[][] sharedTeamLines;
+    private long sharedTeamLinesRevision = -1L;
+    private final HealthObjectiveBatch healthBatch;
+    private List<Scoreboard> pendingBoards;
+    private int cursor;
 
     public ScoreBoard(Arena arena) {
         this.arena = arena;
         game = arena.getGame();
 
+        final List<String> scoreboardLines;
         if (game.countAvailableTeams() >= 5 &&
                 Configurator.Scoreboard_Lines.containsKey("5")) {
-            scoreboard_lines.addAll(Configurator.Scoreboard_Lines.get("5"));
+            scoreboardLines = Configurator.Scoreboard_Lines.get("5");
         } else {
-            scoreboard_lines.addAll(Configurator.Scoreboard_Lines.get("default"));
+            scoreboardLines = Configurator.Scoreboard_Lines.get("default");
         }
+        templates = LineTemplate.compileAll(scoreboardLines, Placeholder.TOKENS);
+        renderContext = new ArenaRenderContext(arena);
+        sharedTeamLines = new String[templates.size()][renderContext.getTeamCount() * 2];
+        game.getRunningTeams().forEach(team -> team.getConnectedPlayers()
+                .forEach(teamPlayer -> entryTeams.put(teamPlayer.getUniqueId(), team.getName())));
+        final var settings = SBAHypixelify.getSettings();
+        healthBatch = new HealthObjectiveBatch(game, arena.getHealthStore(), settings.tagHealth, settings.tabHealth);
         game.getConnectedPlayers().forEach(this::createBoard);
-
-        new BukkitRunnable() {
-            public void run() {
-                if (game.getStatus() == GameStatus.RUNNING) {
-                    updateCustomObj();
-                } else {
-                    cancel();
-                }
-            }
-        }.runTaskTimer(SBAHypixelify.getInstance(), 0L, 5L);
     }
 
     public void createBoard(Player player) {
@@ -68,18 +74,15 @@ public class ScoreBoard {
                 .animate(true)
                 .player(player)
                 .displayObjective(ScoreboardUtil.GAME_OBJECTIVE_NAME)
-                .updateInterval(20L)
                 .animationInterval(2L)
                 .animatedTitle(SBAHypixelify
                         .getConfigurator()
                         .getStringList("lobby-scoreboard.title"))
-                .updateCallback(board -> {
-                    board.setLines(process(player, board));
-                    return true;
-                })
                 .build();
         createCustomObjective(scoreboard);
+        syncTeamEntries(scoreboard);
         scoreboardMap.put(player.getUniqueId(), scoreboard);
+        update(player, scoreboard);
     }
 
     public void remove(Player player) {
@@ -91,11 +94,15 @@ public class ScoreBoard {
             }
             scoreboardMap.remove(player.getUniqueId());
         }
+        boardStates.remove(player.getUniqueId());
+        healthBatch.remove(player);
     }
 
     public void destroy() {
         scoreboardMap.values().forEach(Scoreboard::destroy);
         scoreboardMap.clear();
+        boardStates.clear();
+        entryTeams.clear();
         Logger.trace("Destroyed scoreboard for all players of arena: {}", arena.getGame().getName());
     }
 
@@ -106,7 +113,7 @@ public class ScoreBoard {
             return;
         }
         try {
-            if (SBAHypixelify.getConfigurator().config.getBoolean("game.tab-health", true)) {
+            if (SBAHypixelify.getSettings().tabHealth) {
                 final var tab_objective = new WrapperPlayServerScoreboardObjective();
                 tab_objective.setMode(WrapperPlayServerScoreboardObjective.Mode.ADD_OBJECTIVE);
                 tab_objective.setName(ScoreboardUtil.TAB_OBJECTIVE_NAME);
@@ -118,7 +125,7 @@ public class ScoreBoard {
                 tab_displayObjective.sendPacket(player);
             }
 
-            if (SBAHypixelify.getConfigurator().config.getBoolean("game.tag-health", true)) {
+            if (SBAHypixelify.getSettings().tagHealth) {
                 final var tag_objective = new WrapperPlayServerScoreboardObjective();
                 tag_objective.setMode(WrapperPlayServerScoreboardObjective.Mode.ADD_OBJECTIVE);
                 tag_objective.setName(ScoreboardUtil.TAG_OBJECTIVE_NAME);
@@ -136,140 +143,219 @@ public class ScoreBoard {
     }
 
     public void updateCustomObj() {
-        game.getConnectedPlayers().forEach(p -> ScoreboardUtil.updateCustomObjective(p, game));
+        if (!SBAHypixelify.isProtocolLib() || Main.isLegacy()) {
+            return;
+        }
+        healthBatch.tick();
     }
 
-    public List<String> process(Player player, Scoreboard board) {
-        final var lines = new ArrayList<String>();
+    /* spectators joining a running game are shown empty stats, they never become participants */
+    private PlayerData playerDataOf(Player player) {
         final var playerData = arena.getPlayerData(player.getUniqueId());
+        return playerData == null ? NO_DATA : playerData;
+    }
+
+    public List<String> process(Player player, Scoreboard board) {
+        final var lines = new ArrayList<String>(templates.size());
+        final var playerData = playerDataOf(player);
         final var playerTeam = game.getTeamOfPlayer(player);
         final var statistic = Main.getPlayerStatisticsManager().getStatistic(player);
 
         if (statistic == null)
             return List.of();
 
-        final var totalKills = String.valueOf(statistic.getKills());
-        final var currentKills = String.valueOf(playerData.getKills());
-        final var finalKills = String.valueOf(statistic.getKills());
-        final var currentDeaths = String.valueOf(playerData.getDeaths());
-        final var currentBedDestroys = String.valueOf(playerData.getBedDestroys());
-        final var teamName = playerTeam == null ? "" : playerTeam.getName();
-        final var teamStatus = playerTeam != null ? getTeamBedStatus(playerTeam) : null;
-
-        scoreboard_lines.stream()
-                .filter(Objects::nonNull)
-                .forEach(line -> {
-                    if (line.contains("{team_status}")) {
-                        String finalLine = line;
-                        game.getAvailableTeams().forEach(t -> {
-                            String you = "";
-                            if (playerTeam != null) {
-                                if (playerTeam.getName().equalsIgnoreCase(t.getName())) {
-                                    you = SBAHypixelify.getConfigurator()
-                                            .getString("scoreboard.you", "§7YOU");
-                                }
-                            }
-                            lines.add(finalLine.replace("{team_status}",
-                                    getTeamStatusFormat(t).replace("{you}", you)));
-                        });
-                        return;
-                    }
-                    line = line
-                            .replace("{team}", teamName)
-                            .replace("{beds}", currentBedDestroys)
-                            .replace("{dies}", currentDeaths)
-                            .replace("{totalkills}", totalKills)
-                            .replace("{finalkills}", finalKills)
-                            .replace("{kills}", currentKills)
-                            .replace("{time}", Main.getGame(game.getName())
-                                    .getFormattedTimeLeft())
-                            .replace("{formattime}", Main.getGame(game.getName())
-                                    .getFormattedTimeLeft())
-                            .replace("{game}", game.getName())
-                            .replace("{date}", date)
-                            .replace("{team_bed_status}", teamStatus == null ? "" : teamStatus);
-
-                    if (arena.getGameTask() != null) {
-                        line = line.replace("{tier}", arena.getGameTask().getTier()
-                                .replace("-", "") + " in §a" + arena.getGameTask().getFormattedTimeLeft());
-                    }
-                    lines.add(line);
-                });
+        renderContext.refresh();
+        final var teamIndex = renderContext.indexOf(playerTeam);
+
+        values[Placeholder.TEAM.ordinal()] = playerTeam == null ? "" : playerTeam.getName();
+        values[Placeholder.BEDS.ordinal()] = String.valueOf(playerData.getBedDestroys());
+        values[Placeholder.DIES.ordinal()] = String.valueOf(playerData.getDeaths());
+        values[Placeholder.TOTAL_KILLS.ordinal()] = String.valueOf(statistic.getKills());
+        values[Placeholder.FINAL_KILLS.ordinal()] = String.valueOf(statistic.getKills());
+        values[Placeholder.KILLS.ordinal()] = String.valueOf(playerData.getKills());
+        values[Placeholder.TIME.ordinal()] = renderContext.getFormattedTime();
+        values[Placeholder.FORMAT_TIME.ordinal()] = renderContext.getFormattedTime();
+        values[Placeholder.GAME.ordinal()] = game.getName();
+        values[Placeholder.DATE.ordinal()] = date;
+        values[Placeholder.TEAM_BED_STATUS.ordinal()] = playerTeam == null ? "" :
+                Objects.requireNonNullElse(renderContext.getTeamBedStatus(teamIndex), "");
+        values[Placeholder.TIER.ordinal()] = Objects.requireNonNullElse(renderContext.getTier(), Placeholder.TIER.token);
+
+        if (sharedTeamLinesRevision != renderContext.getRevision()) {
+            sharedTeamLinesRevision = renderContext.getRevision();
+            for (var cached : sharedTeamLines) {
+                Arrays.fill(cached, null);
+            }
+        }
 
-        final var holder = board.getHolder();
-        game.getRunningTeams().forEach(team -> {
-            if (!holder.hasTeamEntry(team.getName())) {
-                holder.addTeam(team.getName(), TeamColor.fromApiColor(team.getColor()).chatColor);
+        final var teamStatusSlot = Placeholder.TEAM_STATUS.ordinal();
+        for (int t = 0; t < templates.size(); t++) {
+            final var template = templates.get(t);
+            if (!template.hasSlot(teamStatusSlot)) {
+                lines.add(template.render(lineBuilder, values));
+                continue;
             }
-            final var scoreboardTeam = holder.getTeamOrRegister(team.getName());
-
-            scoreboardTeam.getEntries()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .map(Bukkit::getPlayerExact)
-                    .filter(Objects::nonNull)
-                    .forEach(teamPlayer -> {
-                        if (!team.getConnectedPlayers().contains(teamPlayer)) {
-                            scoreboardTeam.removeEntry(teamPlayer.getName());
-                        }
-                    });
-
-            team.getConnectedPlayers()
-                    .stream()
-                    .map(Player::getName)
-                    .filter(playerName -> !scoreboardTeam.hasEntry(playerName))
-                    .forEach(scoreboardTeam::addEntry);
-        });
+            final var shared = template.usesOnly(teamStatusSlot);
+            for (int i = 0; i < renderContext.getTeamCount(); i++) {
+                final var isViewerTeam = i == teamIndex;
+                final var cacheIndex = i * 2 + (isViewerTeam ? 1 : 0);
+                if (shared && sharedTeamLines[t][cacheIndex] != null) {
+                    lines.add(sharedTeamLines[t][cacheIndex]);
+                    continue;
+                }
+                values[teamStatusSlot] = renderContext.getTeamStatus(i, isViewerTeam);
+                final var line = template.render(lineBuilder, values);
+                if (shared) {
+                    sharedTeamLines[t][cacheIndex] = line;
+                }
+                lines.add(line);
+            }
+        }
+
         return lines;
     }
 
-    private String getTeamBedStatus(RunningTeam team) {
-        return team.isDead() ? "§c\u2717" :
-                "§a\u2713";
+    /**
+     * Updates the boards of the arena, continuing the previous pass if it ran out of time.
+     *
+     * @param deadlineNanos {@link System#nanoTime()} after which no further board is started
+     * @return true if the pass went through every board
+     */
+    public boolean updateBoards(long deadlineNanos) {
+        if (pendingBoards == null) {
+            pendingBoards = new ArrayList<>(scoreboardMap.values());
+            cursor = 0;
+        }
+        while (cursor < pendingBoards.size()) {
+            final var board = pendingBoards.get(cursor++);
+            final var player = board.getHolder().getPlayer();
+            if (scoreboardMap.get(player.getUniqueId()) == board && player.isOnline()) {
+                update(player, board);
+            }
+            if (System.nanoTime() > deadlineNanos && cursor < pendingBoards.size()) {
+                return false;
+            }
+        }
+        pendingBoards = null;
+        return true;
     }
 
-    private String getTeamStatusFormat(RunningTeam team) {
-        String alive = "{color} {team} §a\u2713 §8{you}";
-        String destroyed = "{color} {team} §a§f{players}§8 {you}";
+    /**
+     * Renders the board of the player and pushes the lines only if any of them changed.
+     * The update is skipped without rendering when none of its inputs changed.
+     */
+    public void update(Player player, Scoreboard board) {
+        final var statistic = Main.getPlayerStatisticsManager().getStatistic(player);
+        final var playerData = playerDataOf(player);
+        final var state = boardStates.computeIfAbsent(player.getUniqueId(), uuid -> new BoardState());
+
+        if (statistic != null) {
+            renderContext.refresh();
+            final var teamIndex = renderContext.indexOf(game.getTeamOfPlayer(player));
+            if (!state.updateInputs(renderContext.getRevision(), teamIndex, playerData.getKills(),
+                    playerData.getDeaths(), playerData.getBedDestroys(), statistic.getKills())) {
+                BoardUpdateStats.skippedUpdate(state.getLineCount());
+                return;
+            }
+        }
 
-        String status = team.isTargetBlockExists() ? alive : destroyed;
+        final var lines = process(player, board);
+        if (state.updateLines(lines) == 0) {
+            BoardUpdateStats.skipped(lines.size());
+            return;
+        }
+        /* the board is handed the whole list, so every line of it counts as sent */
+        board.setLines(lines);
+        BoardUpdateStats.sent(lines.size());
+    }
 
-        if (team.isDead() && team.getConnectedPlayers().size() <= 0)
-            status = "{color} {team} §c\u2717 {you}";
+    /**
+     * Moves the entry of the player to the team it currently belongs to on every board,
+     * called when the membership of the player may have changed.
+     */
+    public void refreshTeamEntry(Player player) {
+        final var team = game.getTeamOfPlayer(player);
+        final var teamName = team == null ? null : team.getName();
+        final var previous = entryTeams.get(player.getUniqueId());
+        if (Objects.equals(previous, teamName)) {
+            return;
+        }
 
-        String formattedTeam = org.screamingsandals.bedwars.game.TeamColor.valueOf(team.getColor().name()).chatColor.toString()
-                + team.getName().charAt(0);
-        return status.replace("{bed_status}", getTeamBedStatus(team))
-                .replace("{color}", formattedTeam)
-                .replace("{team}", ChatColor.WHITE.toString() + team.getName() + ":")
-                .replace("{players}", ChatColor.GREEN.toString() + team.getConnectedPlayers().size());
-    }
+        scoreboardMap.values().forEach(board -> {
+            final var holder = board.getHolder();
+            if (previous != null && holder.hasTeamEntry(previous)) {
+                holder.getTeamOrRegister(previous).removeEntry(player.getName());
+            }
+            if (team != null) {
+                registerTeam(board, team);
+                holder.getTeamOrRegister(teamName).addEntry(player.getName());
+            }
+        });
 
-    private String getTeamStatusFormat(Team team) {
-        Optional<RunningTeam> rt = game.getRunningTeams().stream()
-                .filter(t -> t.getName().equalsIgnoreCase(team.getName()))
-                .findAny();
+        if (teamName == null) {
+            entryTeams.remove(player.getUniqueId());
+        } else {
+            entryTeams.put(player.getUniqueId(), teamName);
+        }
+    }
 
-        if (rt.isPresent()) {
-            return getTeamStatusFormat(rt.get());
+    /**
+     * Removes the entry of the player from every board.
+     */
+    public void removeTeamEntry(Player player) {
+        final var previous = entryTeams.remove(player.getUniqueId());
+        if (previous == null) {
+            return;
         }
+        scoreboardMap.values().forEach(board -> {
+            final var holder = board.getHolder();
+            if (holder.hasTeamEntry(previous)) {
+                holder.getTeamOrRegister(previous).removeEntry(player.getName());
+            }
+        });
+    }
 
-        final var destroyed = "{color} {team} §c\u2718 {you}";
-        final var formattedTeam = org.screamingsandals.bedwars.game.TeamColor
-                .valueOf(team.getColor().name()).chatColor.toString()
-                + team.getName().charAt(0);
+    private void syncTeamEntries(Scoreboard board) {
+        game.getRunningTeams().forEach(team -> registerTeam(board, team));
+        entryTeams.forEach((uuid, teamName) -> {
+            final var teamPlayer = Bukkit.getPlayer(uuid);
+            if (teamPlayer != null) {
+                board.getHolder().getTeamOrRegister(teamName).addEntry(teamPlayer.getName());
+            }
+        });
+    }
 
-        return destroyed.replace("{bed_status}", "§c\u2718")
-                .replace("{color}", formattedTeam)
-                .replace("{team}", ChatColor.WHITE.toString()
-                        + team.getName() + ":");
+    private void registerTeam(Scoreboard board, RunningTeam team) {
+        final var holder = board.getHolder();
+        if (!holder.hasTeamEntry(team.getName())) {
+            holder.addTeam(team.getName(), TeamColor.fromApiColor(team.getColor()).chatColor);
+        }
     }
 
-    public void cancelTask() {
-        if (updateTask != null) {
-            if (Bukkit.getScheduler().isCurrentlyRunning(updateTask.getTaskId()) || Bukkit.getScheduler().isQueued(updateTask.getTaskId())) {
-                updateTask.cancel();
-            }
+    /* package-private so the render benchmarks use the same token order */
+    enum Placeholder {
+        TEAM_STATUS("{team_status}"),
+        TEAM_BED_STATUS("{team_bed_status}"),
+        TEAM("{team}"),
+        BEDS("{beds}"),
+        DIES("{dies}"),
+        TOTAL_KILLS("{totalkills}"),
+        FINAL_KILLS("{finalkills}"),
+        KILLS("{kills}"),
+        TIME("{time}"),
+        FORMAT_TIME("{formattime}"),
+        GAME("{game}"),
+        DATE("{date}"),
+        TIER("{tier}");
+
+        static final String[] TOKENS = Arrays.stream(values())
+                .map(placeholder -> placeholder.token)
+                .toArray(String[]::new);
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package pronze.hypixelify.service;
+
+import org.screamingsandals.bedwars.Main;
+
+/**
+ * Countdown of a BedWars game read at most once per server tick. The BedWars string is
+ * only parsed when it changes, so consumers get both the text and the seconds for free.
+ */
+public class GameClock {
+    private final String gameName;
+    private final GameClockService service;
+    private int refreshedAt = -1;
+    private String formattedTime = "";
+    private int secondsLeft = -1;
+
+    GameClock(String gameName, GameClockService service) {
+        this.gameName = gameName;
+        this.service = service;
+    }
+
+    public void refresh() {
+        final var tick = service.getTick();
+        if (tick == refreshedAt) {
+            return;
+        }
+        refreshedAt = tick;
+
+        final var game = Main.getGame(gameName);
+        if (game == null) {
+            return;
+        }
+        final var time = game.getFormattedTimeLeft();
+        if (!time.equals(formattedTime)) {
+            formattedTime = time;
+            secondsLeft = parseSeconds(time);
+        }
+    }
+
+    /**
+     * @return the mm:ss string of BedWars
+     */
+    public String getFormattedTime() {
+        refresh();
+        return formattedTime;
+    }
+
+    /**
+     * @return seconds left on the countdown, -1 if no countdown is running
+     */
+    public int getSecondsLeft() {
+        refresh();
+        return secondsLeft;
+    }
+
+    /* BedWars renders a stopped countdown as 00:0-1 */
+    private static int parseSeconds(String time) {
+        var seconds = 0;
+        var field = 0;
+        for (int i = 0; i < time.length(); i++) {
+            final var c = time.charAt(i);
+            if (c == ':') {
+                seconds = seconds * 60 + field;
+                field = 0;
+            } else if (c >= '0' && c <= '9') {
+                field = field * 10 + (c - '0');
+            } else {
+                return -1;
+            }
+        }
+        return seconds * 60 + field;
+    }
+}
@@ -0,0 +1,30 @@
+package pronze.hypixelify.service;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.screamingsandals.bedwars.api.game.Game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class GameClockService {
+    private final Map<String, GameClock> clocks = new HashMap<>();
+    /* counted by our own task, Bukkit.getCurrentTick() only exists on Paper */
+    private int tick;
+
+    public void start(Plugin plugin) {
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> tick++, 0L, 1L);
+    }
+
+    int getTick() {
+        return tick;
+    }
+
+    public GameClock getClock(Game game) {
+        return clocks.computeIfAbsent(game.getName(), name -> new GameClock(name, this));
+    }
+
+    public void clear() {
+        clocks.clear();
+    }
+}
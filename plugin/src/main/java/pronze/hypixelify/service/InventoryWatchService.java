@@ -0,0 +1,138 @@
+package pronze.hypixelify.service;
+
+import pronze.hypixelify.utils.Logger;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the shop and games inventory folders and hands every file whose content really
+ * changed to the handler of its folder. Handlers run on the watcher thread, so they parse
+ * off the main thread and are expected to publish the result atomically.
+ */
+public class InventoryWatchService {
+    /* editors tend to write a file in several steps, wait for them to settle */
+    private static final long QUIET_MILLIS = 500L;
+
+    private final Map<Path, Consumer<Path>> handlers = new HashMap<>();
+    /* content checksum of every watched file, only touched by the watcher thread */
+    private final Map<Path, Long> checksums = new HashMap<>();
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * @param directory folder to watch, ignored if it does not exist
+     * @param handler   called with the absolute path of a changed .yml or .groovy file
+     */
+    public InventoryWatchService watch(Path directory, Consumer<Path> handler) {
+        handlers.put(directory.toAbsolutePath(), handler);
+        return this;
+    }
+
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+        for (var directory : handlers.keySet()) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(InventoryWatchService::isInventoryFile)
+                        .forEach(file -> checksums.put(file, checksum(file)));
+            }
+        }
+        thread = new Thread(this::run, "SBAHypixelify-InventoryWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void run() {
+        final var changed = new HashSet<Path>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                var key = watchService.take();
+                while (key != null) {
+                    collect(key, changed);
+                    key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                changed.forEach(this::dispatch);
+                changed.clear();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+            /* stopped */
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        final var directory = (Path) key.watchable();
+        for (var event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                continue;
+            }
+            final var file = directory.resolve((Path) event.context());
+            if (isInventoryFile(file)) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    private void dispatch(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        final var checksum = checksum(file);
+        if (checksum.equals(checksums.put(file, checksum))) {
+            Logger.trace("{} was touched without changes", file.getFileName());
+            return;
+        }
+        final var handler = handlers.get(file.getParent());
+        if (handler == null) {
+            return;
+        }
+        Logger.trace("Reloading {}", file.getFileName());
+        try {
+            handler.accept(file);
+        } catch (Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
+    private static boolean isInventoryFile(Path file) {
+        final var name = file.getFileName().toString().toLowerCase();
+        return name.endsWith(".yml") || name.endsWith(".groovy");
+    }
+
+    private static Long checksum(Path file) {
+        try {
+            final var crc = new CRC32();
+            crc.update(Files.readAllBytes(file));
+            return crc.getValue();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+}
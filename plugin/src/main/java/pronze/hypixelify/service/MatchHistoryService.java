@@ -0,0 +1,131 @@
+package pronze.hypixelify.service;
+
+import pronze.hypixelify.utils.Logger;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Write behind store of finished games. Records are queued from the main thread and appended
+ * to a binary file by a single background thread, in batches of whatever piled up meanwhile.
+ * <p>
+ * File layout: the magic header followed by records, each prefixed with its length so a
+ * reader can skip a record it does not understand or a record torn by a crash.
+ */
+public class MatchHistoryService {
+    private static final int MAGIC = 0x5342414D;
+    private static final int MAX_BATCH = 64;
+    private static final MatchRecord STOP = new MatchRecord(0L, "", "", 0, List.of());
+
+    private final File file;
+    private final BlockingQueue<MatchRecord> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean accepting = true;
+
+    public MatchHistoryService(File file) {
+        this.file = file;
+        writer = new Thread(this::drain, "SBAHypixelify-MatchHistory");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues the record for writing, never blocks.
+     */
+    public void submit(MatchRecord record) {
+        if (!accepting) {
+            return;
+        }
+        queue.offer(record);
+    }
+
+    /**
+     * Stops accepting records and waits for the queued ones to be written.
+     */
+    public void shutdown() {
+        accepting = false;
+        queue.offer(STOP);
+        try {
+            writer.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        final var batch = new ArrayList<MatchRecord>(MAX_BATCH);
+        var stopped = false;
+        while (!stopped) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            stopped = batch.remove(STOP);
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<MatchRecord> batch) {
+        final var isNew = !file.exists() || file.length() == 0;
+        try (var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            if (isNew) {
+                out.writeInt(MAGIC);
+            }
+            final var buffer = new ByteArrayOutputStream(256);
+            final var record = new DataOutputStream(buffer);
+            for (var match : batch) {
+                buffer.reset();
+                match.writeTo(record);
+                out.writeInt(buffer.size());
+                buffer.writeTo(out);
+            }
+        } catch (IOException e) {
+            Logger.trace("Could not write {} match records: {}", batch.size(), e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads every record of a match history file, records of an unknown version are skipped.
+     */
+    public static void read(File file, Consumer<MatchRecord> consumer) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file.getName() + " is not a match history file");
+            }
+            final var recordBytes = new byte[1 << 16];
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                final var bytes = length <= recordBytes.length ? recordBytes : new byte[length];
+                try {
+                    in.readFully(bytes, 0, length);
+                } catch (EOFException e) {
+                    /* torn tail of a crash, everything before it is intact */
+                    return;
+                }
+                try {
+                    consumer.accept(MatchRecord.readFrom(new DataInputStream(new ByteArrayInputStream(bytes, 0, length))));
+                } catch (IOException e) {
+                    Logger.trace("Skipping match record: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package pronze.hypixelify.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable result of a finished game, written to the match history.
+ */
+public class MatchRecord {
+    static final int VERSION = 1;
+
+    private final long endedAt;
+    private final String game;
+    private final String winner;
+    private final int durationSeconds;
+    private final List<Participant> participants;
+
+    public MatchRecord(long endedAt, String game, String winner, int durationSeconds, List<Participant> participants) {
+        this.endedAt = endedAt;
+        this.game = game;
+        this.winner = winner == null ? "" : winner;
+        this.durationSeconds = durationSeconds;
+        this.participants = List.copyOf(participants);
+    }
+
+    public long getEndedAt() {
+        return endedAt;
+    }
+
+    public String getGame() {
+        return game;
+    }
+
+    /**
+     * @return name of the winning team, empty if the game ended without a winner
+     */
+    public String getWinner() {
+        return winner;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public List<Participant> getParticipants() {
+        return participants;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeLong(endedAt);
+        out.writeUTF(game);
+        out.writeUTF(winner);
+        out.writeInt(durationSeconds);
+        out.writeShort(participants.size());
+        for (var participant : participants) {
+            out.writeLong(participant.uuid.getMostSignificantBits());
+            out.writeLong(participant.uuid.getLeastSignificantBits());
+            out.writeUTF(participant.name);
+            out.writeUTF(participant.team);
+            out.writeInt(participant.kills);
+            out.writeInt(participant.finalKills);
+            out.writeInt(participant.deaths);
+            out.writeInt(participant.bedDestroys);
+        }
+    }
+
+    static MatchRecord readFrom(DataInput in) throws IOException {
+        final var version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported match record version " + version);
+        }
+        final var endedAt = in.readLong();
+        final var game = in.readUTF();
+        final var winner = in.readUTF();
+        final var duration = in.readInt();
+        final var count = in.readUnsignedShort();
+        final var participants = new ArrayList<Participant>(count);
+        for (int i = 0; i < count; i++) {
+            participants.add(new Participant(new UUID(in.readLong(), in.readLong()), in.readUTF(), in.readUTF(),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt()));
+        }
+        return new MatchRecord(endedAt, game, winner, duration, participants);
+    }
+
+    public static class Participant {
+        private final UUID uuid;
+        private final String name;
+        private final String team;
+        private final int kills;
+        private final int finalKills;
+        private final int deaths;
+        private final int bedDestroys;
+
+        public Participant(UUID uuid, String name, String team, int kills, int finalKills, int deaths, int bedDestroys) {
+            this.uuid = uuid;
+            this.name = name == null ? "" : name;
+            this.team = team == null ? "" : team;
+            this.kills = kills;
+            this.finalKills = finalKills;
+            this.deaths = deaths;
+            this.bedDestroys = bedDestroys;
+        }
+
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public int getKills() {
+            return kills;
+        }
+
+        public int getFinalKills() {
+            return finalKills;
+        }
+
+        public int getDeaths() {
+            return deaths;
+        }
+
+        public int getBedDestroys() {
+            return bedDestroys;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 package pronze.hypixelify.specials.listener;
+import pronze.hypixelify.SBAHypixelify;
 import pronze.hypixelify.specials.Dragon;
 import org.bukkit.entity.EnderDragon;
 import org.bukkit.entity.Player;
@@ -12,12 +13,11 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.projectiles.ProjectileSource;
 import org.screamingsandals.bedwars.Main;
 import org.screamingsandals.bedwars.api.config.ConfigurationContainer;
+import org.screamingsandals.bedwars.api.game.Game;
 import org.screamingsandals.bedwars.api.game.GameStatus;
 import org.screamingsandals.bedwars.api.special.SpecialItem;
 import org.screamingsandals.bedwars.utils.MiscUtils;
 
-import java.util.List;
-
 public class DragonListener implements Listener {
 
     @EventHandler
@@ -27,41 +27,37 @@ public class DragonListener implements Listener {
         }
 
         final var eventDragon = (EnderDragon) event.getEntity();
-        Main.getGameNames().forEach(name-> {
-            final var game = Main.getGame(name);
-            if (game.getStatus() == GameStatus.RUNNING && eventDragon.getWorld().equals(game.getGameWorld())) {
-                List<SpecialItem> dragons = game.getActivedSpecialItems(Dragon.class);
-                for (var item : dragons) {
-                    if (item instanceof Dragon) {
-                        final var dragon = (Dragon) item;
-                        if (dragon.getEntity().equals(eventDragon)) {
-                            if (event.getDamager() instanceof Player) {
-                                Player player = (Player) event.getDamager();
-                                if (Main.isPlayerInGame(player)) {
-                                    if (dragon.getTeam() != game.getTeamOfPlayer(player)) {
-                                        return;
-                                    }
-                                }
-                            } else if (event.getDamager() instanceof Projectile) {
-                                ProjectileSource shooter = ((Projectile) event.getDamager()).getShooter();
-                                if (shooter instanceof Player) {
-                                    Player player = (Player) shooter;
-                                    if (Main.isPlayerInGame(player)) {
-                                        if (dragon.getTeam() != game.getTeamOfPlayer(player)) {
-                                            return;
-                                        }
-                                    }
-                                }
-                            }
-
-                            event.setCancelled(game.getConfigurationContainer().getOrDefault(ConfigurationContainer.FRIENDLY_FIRE, Boolean.class, false));
+        for (var arena : SBAHypixelify.getArenaRegistry().get(eventDragon.getWorld())) {
+            final var game = arena.getGame();
+            if (game.getStatus() != GameStatus.RUNNING) {
+                continue;
+            }
+            final var dragon = findDragon(game, eventDragon);
+            if (dragon == null) {
+                continue;
+            }
+            if (event.getDamager() instanceof Player) {
+                Player player = (Player) event.getDamager();
+                if (Main.isPlayerInGame(player)) {
+                    if (dragon.getTeam() != game.getTeamOfPlayer(player)) {
+                        return;
+                    }
+                }
+            } else if (event.getDamager() instanceof Projectile) {
+                ProjectileSource shooter = ((Projectile) event.getDamager()).getShooter();
+                if (shooter instanceof Player) {
+                    Player player = (Player) shooter;
+                    if (Main.isPlayerInGame(player)) {
+                        if (dragon.getTeam() != game.getTeamOfPlayer(player)) {
                             return;
                         }
-                        return;
                     }
                 }
             }
-        });
+
+            event.setCancelled(game.getConfigurationContainer().getOrDefault(ConfigurationContainer.FRIENDLY_FIRE, Boolean.class, false));
+            return;
+        }
     }
 
 
@@ -73,46 +69,42 @@ public class DragonListener implements Listener {
         }
 
         final var enderDragon = (EnderDragon) event.getEntity();
+        for (var arena : SBAHypixelify.getArenaRegistry().get(enderDragon.getWorld())) {
+            final var game = arena.getGame();
+            if (game.getStatus() != GameStatus.RUNNING && game.getStatus() != GameStatus.GAME_END_CELEBRATING) {
+                continue;
+            }
+            final var dragon = findDragon(game, enderDragon);
+            if (dragon == null) {
+                continue;
+            }
+            if (event.getTarget() instanceof Player) {
+                final var player = (Player) event.getTarget();
+                if (game.isProtectionActive(player)) {
+                    event.setCancelled(true);
+                    return;
+                }
 
+                if (Main.isPlayerInGame(player)) {
+                    if (dragon.getTeam() == game.getTeamOfPlayer(player)) {
+                        event.setCancelled(true);
 
-        Main.getGameNames().forEach(gameName-> {
-            final var game = Main.getGame(gameName);
-            if ((game.getStatus() == GameStatus.RUNNING || game.getStatus() == GameStatus.GAME_END_CELEBRATING) && enderDragon.getWorld().equals(game.getWorld())) {
-                List<SpecialItem> dragons = game.getActivedSpecialItems(Dragon.class);
-                dragons.forEach(item-> {
-                    if (item instanceof Dragon) {
-                        final var dragon = (Dragon) item;
-                        if (dragon.getEntity().equals(enderDragon)) {
-                            if (event.getTarget() instanceof Player) {
-                                final var player = (Player) event.getTarget();
-                                if (game.isProtectionActive(player)) {
-                                    event.setCancelled(true);
-                                    return;
-                                }
-
-                                if (Main.isPlayerInGame(player)) {
-                                    if (dragon.getTeam() == game.getTeamOfPlayer(player)) {
-                                        event.setCancelled(true);
-
-                                        final var enemyTarget = MiscUtils.findTarget(game, player, 40);
-                                        if (enemyTarget != null) {
-                                            enderDragon.setTarget(enemyTarget);
-                                        }
-                                    }
-                                }
-                            }
+                        final var enemyTarget = MiscUtils.findTarget(game, player, 40);
+                        if (enemyTarget != null) {
+                            enderDragon.setTarget(enemyTarget);
                         }
                     }
-                });
+                }
             }
-        });
-
+            return;
+        }
     }
 
     @EventHandler
     public void onDragonTargetDeath(PlayerDeathEvent event) {
-        if (Main.isPlayerInGame(event.getEntity())) {
-            final var game = Main.getPlayerGameProfile(event.getEntity()).getGame();
+        final var arena = SBAHypixelify.getArena(event.getEntity());
+        if (arena != null) {
+            final var game = arena.getGame();
 
             final var dragons = game.getActivedSpecialItems(Dragon.class);
             for (var item : dragons) {
@@ -132,20 +124,23 @@ public class DragonListener implements Listener {
         }
 
         EnderDragon eventDragon = (EnderDragon) event.getEntity();
-        Main.getGameNames().forEach(name-> {
-            final var game = Main.getGame(name);
-            if ((game.getStatus() == GameStatus.RUNNING || game.getStatus() == GameStatus.GAME_END_CELEBRATING) && eventDragon.getWorld().equals(game.getGameWorld())) {
-                List<SpecialItem> dragons = game.getActivedSpecialItems(Dragon.class);
-                for (SpecialItem item : dragons) {
-                    if (item instanceof EnderDragon) {
-                        Dragon dragon = (Dragon) item;
-                        if (dragon.getEntity().equals(eventDragon)) {
-                            event.getDrops().clear();
-                        }
-                    }
-                }
+        for (var arena : SBAHypixelify.getArenaRegistry().get(eventDragon.getWorld())) {
+            final var game = arena.getGame();
+            if ((game.getStatus() == GameStatus.RUNNING || game.getStatus() == GameStatus.GAME_END_CELEBRATING)
+                    && findDragon(game, eventDragon) != null) {
+                event.getDrops().clear();
+                return;
+            }
+        }
+    }
+
+    private static Dragon findDragon(Game game, EnderDragon enderDragon) {
+        for (SpecialItem item : game.getActivedSpecialItems(Dragon.class)) {
+            if (item instanceof Dragon && ((Dragon) item).getEntity().equals(enderDragon)) {
+                return (Dragon) item;
             }
-        });
+        }
+        return null;
     }
 
 }
@@ -0,0 +1,62 @@
+package pronze.hypixelify.utils;
+
+import org.bukkit.Location;
+import org.screamingsandals.bedwars.api.game.ItemSpawner;
+import org.screamingsandals.bedwars.game.Game;
+import org.screamingsandals.bedwars.lib.nms.holograms.Hologram;
+import pronze.hypixelify.SBAHypixelify;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+
+/**
+ * Accessors for the BedWars internals SBAHypixelify relies on. Everything is resolved once
+ * on enable, so a missing member is reported up front instead of failing on every use.
+ */
+public class BedWarsInternals {
+    private static VarHandle countdownHolograms;
+    private static VarHandle hologramLocation;
+
+    public static void init() {
+        countdownHolograms = resolve(Game.class, "countdownHolograms");
+        hologramLocation = resolve(Hologram.class, "location");
+
+        final var logger = SBAHypixelify.getInstance().getLogger();
+        if (canRelocateHolograms()) {
+            logger.info("BedWars internals: hologram relocation available");
+        } else {
+            logger.warning("BedWars internals: hologram relocation unavailable, rotating generators" +
+                    " will not be spawned. Is this BedWars version supported?");
+        }
+    }
+
+    private static VarHandle resolve(Class<?> owner, String fieldName) {
+        try {
+            final var field = owner.getDeclaredField(fieldName);
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflectVarHandle(field);
+        } catch (Throwable t) {
+            Logger.trace("Could not resolve {}#{}: {}", owner.getName(), fieldName, String.valueOf(t.getMessage()));
+            return null;
+        }
+    }
+
+    public static boolean canRelocateHolograms() {
+        return countdownHolograms != null && hologramLocation != null;
+    }
+
+    /**
+     * @return the countdown hologram of the spawner, null if it has none or the accessor is unavailable
+     */
+    public static Hologram getCountdownHologram(Game game, ItemSpawner spawner) {
+        if (countdownHolograms == null) {
+            return null;
+        }
+        final var holograms = (Map<?, ?>) countdownHolograms.get(game);
+        return holograms == null ? null : (Hologram) holograms.get(spawner);
+    }
+
+    public static void setHologramLocation(Hologram hologram, Location location) {
+        hologramLocation.set(hologram, location);
+    }
+}
@@ -98,7 +98,7 @@ public class ShopUtil {
         return true;
     }
 
-    static <K, V> List<K> getAllKeysForValue(Map<K, V> mapOfWords, V value) {
+    private static <K, V> List<K> getAllKeysForValue(Map<K, V> mapOfWords, V value) {
         List<K> listOfKeys = null;
         if (mapOfWords.containsValue(value)) {
             listOfKeys = new ArrayList<>();
@@ -225,7 +225,7 @@ public class ShopUtil {
     }
 
     public static void upgradeSwordOnPurchase(Player player, ItemStack newItem, Game game) {
-        if (SBAHypixelify.getConfigurator().config.getBoolean("remove-sword-on-upgrade", true)) {
+        if (SBAHypixelify.getSettings().removeSwordOnUpgrade) {
             Arrays.stream(player.getInventory().getContents())
                     .filter(Objects::nonNull)
                     .filter(stack -> stack.getType().name().endsWith("SWORD"))
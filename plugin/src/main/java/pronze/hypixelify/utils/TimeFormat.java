@@ -0,0 +1,33 @@
+package pronze.hypixelify.utils;
+
+/**
+ * Formats second counts as mm:ss. Strings for the first hour are built once and reused.
+ */
+public class TimeFormat {
+    private static final String[] CACHE = new String[60 * 60];
+
+    public static String mmss(int seconds) {
+        if (seconds < 0) {
+            seconds = 0;
+        }
+        if (seconds >= CACHE.length) {
+            return format(seconds);
+        }
+        var formatted = CACHE[seconds];
+        if (formatted == null) {
+            formatted = format(seconds);
+            CACHE[seconds] = formatted;
+        }
+        return formatted;
+    }
+
+    private static String format(int seconds) {
+        final var minutes = seconds / 60;
+        final var rest = seconds % 60;
+        final var builder = new StringBuilder(5);
+        if (minutes < 10) builder.append('0');
+        builder.append(minutes).append(':');
+        if (rest < 10) builder.append('0');
+        return builder.append(rest).toString();
+    }
+}